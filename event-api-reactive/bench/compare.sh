@@ -0,0 +1,30 @@
+#!/usr/bin/env sh
+# Side-by-side read throughput and memory of the blocking (MVC + JPA) and reactive (WebFlux + R2DBC) builds.
+#
+# Start both against the same database first:
+#   docker compose --profile reactive up -d mysql event-api event-api-reactive
+#
+# Requires wrk (https://github.com/wg/wrk) and docker.
+set -eu
+
+DURATION="${DURATION:-30s}"
+THREADS="${THREADS:-4}"
+CONNECTIONS="${CONNECTIONS:-256}"
+ENDPOINT="${ENDPOINT:-/events}"
+
+run() {
+  name="$1"
+  container="$2"
+  url="$3"
+
+  echo "== $name ($url$ENDPOINT)"
+  # Warm up JIT and connection pools before measuring
+  wrk -t"$THREADS" -c"$CONNECTIONS" -d10s "$url$ENDPOINT" > /dev/null
+  wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency "$url$ENDPOINT" | grep -E "Requests/sec|Latency|99%"
+  docker stats --no-stream --format "memory: {{.MemUsage}}  cpu: {{.CPUPerc}}" "$container"
+  docker exec "$container" sh -c 'grep -E "VmRSS|Threads" /proc/1/status'
+  echo
+}
+
+run "mvc" web-calendar-api http://localhost:8081
+run "reactive" web-calendar-api-reactive http://localhost:8082
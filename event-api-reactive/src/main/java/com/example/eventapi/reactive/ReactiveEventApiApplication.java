@@ -0,0 +1,21 @@
+package com.example.eventapi.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Clock;
+
+@SpringBootApplication
+public class ReactiveEventApiApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveEventApiApplication.class, args);
+	}
+
+	@Bean
+	public Clock clock() {
+		return Clock.systemUTC();
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.example.eventapi.reactive.controller;
+
+import com.example.eventapi.reactive.mapper.ReactiveEventMapper;
+import com.example.eventapi.reactive.model.ReactiveEvent;
+import com.example.eventapi.reactive.service.ReactiveEventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Read endpoints of the blocking {@code EventController}, served without blocking threads. There are no write
+ * endpoints: POST, PUT and DELETE answer 405 and must go to event-api.
+ */
+@RestController
+@CrossOrigin
+@RequestMapping("/events")
+public class ReactiveEventController {
+
+    private final ReactiveEventMapper eventMapper;
+
+    private final ReactiveEventService eventService;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveEventController.class);
+
+    public ReactiveEventController(ReactiveEventMapper eventMapper,
+                                   ReactiveEventService eventService) {
+        this.eventMapper = eventMapper;
+        this.eventService = eventService;
+    }
+
+    @GetMapping
+    public Flux<?> getAll(@RequestParam(required = false) String fields,
+                          @RequestParam(required = false) Instant from,
+                          @RequestParam(required = false) Instant to) {
+        Flux<ReactiveEvent> events;
+        if (from != null || to != null) {
+            if (from == null || to == null) {
+                throw new IllegalArgumentException("Both from and to must be provided");
+            }
+            LOGGER.info("Received request to get events between {} and {}", from, to);
+            events = eventService.getEventsBetween(from, to);
+        } else {
+            LOGGER.info("Received request to get all events");
+            events = eventService.getAllEvents();
+        }
+        if (fields == null || fields.isBlank()) {
+            return events;
+        }
+        Set<String> selected = eventMapper.parseFields(fields);
+        return events.map(event -> eventMapper.project(event, selected));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ReactiveEvent> getEventById(@PathVariable Long id) {
+        LOGGER.info("Received request to get event by id: {}", id);
+        return eventService.getEventById(id);
+    }
+}
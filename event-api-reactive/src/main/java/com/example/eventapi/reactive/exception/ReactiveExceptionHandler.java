@@ -0,0 +1,40 @@
+package com.example.eventapi.reactive.exception;
+
+import com.example.eventapi.exception.ApiError;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+
+/**
+ * WebFlux counterpart of {@code GlobalExceptionHandler}, producing the same {@link ApiError} bodies.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    private final Clock clock;
+
+    public ReactiveExceptionHandler(Clock clock) {
+        this.clock = clock;
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<ApiError> handleNotFound(NoSuchElementException ex, ServerWebExchange exchange) {
+        return error(HttpStatus.NOT_FOUND, ex.getMessage(), exchange);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiError> handleBadRequest(IllegalArgumentException ex, ServerWebExchange exchange) {
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), exchange);
+    }
+
+    private ResponseEntity<ApiError> error(HttpStatus status, String message, ServerWebExchange exchange) {
+        ApiError error = new ApiError(LocalDateTime.now(clock), status, message, exchange.getRequest().getPath().value());
+        return ResponseEntity.status(status).body(error);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.eventapi.reactive.mapper;
+
+import com.example.eventapi.reactive.model.ReactiveEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+@Component
+public class ReactiveEventMapper {
+
+    private static final Map<String, Function<ReactiveEvent, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("id", ReactiveEvent::getId);
+        FIELDS.put("title", ReactiveEvent::getTitle);
+        FIELDS.put("description", ReactiveEvent::getDescription);
+        FIELDS.put("startTime", ReactiveEvent::getStartTime);
+        FIELDS.put("endTime", ReactiveEvent::getEndTime);
+        FIELDS.put("location", ReactiveEvent::getLocation);
+        FIELDS.put("color", ReactiveEvent::getColor);
+        FIELDS.put("reminderMinutes", ReactiveEvent::getReminderMinutes);
+    }
+
+    /**
+     * Parses the {@code fields} parameter with the same rules as the blocking API: unknown names are rejected
+     * and the id is always selected.
+     */
+    public Set<String> parseFields(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!FIELDS.containsKey(trimmed)) {
+                throw new IllegalArgumentException(String.format("Unknown event field: %s", trimmed));
+            }
+            selected.add(trimmed);
+        }
+        return selected;
+    }
+
+    public Map<String, Object> project(ReactiveEvent event, Set<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (Map.Entry<String, Function<ReactiveEvent, Object>> field : FIELDS.entrySet()) {
+            if (fields.contains(field.getKey())) {
+                row.put(field.getKey(), field.getValue().apply(event));
+            }
+        }
+        return row;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.eventapi.reactive.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+@Data
+@Table("event")
+public class ReactiveEvent {
+    @Id
+    @Column("id")
+    private Long id;
+    @Column("title")
+    private String title;
+    @Column("description")
+    private String description;
+    @Column("start_time")
+    private Instant startTime;
+    @Column("end_time")
+    private Instant endTime;
+    @Column("location")
+    private String location;
+    @Column("color")
+    private String color;
+    @Column("reminder_minutes")
+    private Integer reminderMinutes;
+}
@@ -0,0 +1,31 @@
+package com.example.eventapi.reactive.repository;
+
+import com.example.eventapi.reactive.model.ReactiveEvent;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * Read only, so no save or delete methods are exposed: events are written by event-api alone. Archived events
+ * are read from {@code event_archive}, which event-api's retention job fills; an event is in exactly one of the
+ * two tables.
+ */
+public interface ReactiveEventRepository extends Repository<ReactiveEvent, Long> {
+
+    String COLUMNS = "id, title, description, start_time, end_time, location, color, reminder_minutes";
+
+    Flux<ReactiveEvent> findAll();
+
+    Mono<ReactiveEvent> findById(Long id);
+
+    @Query("SELECT " + COLUMNS + " FROM event WHERE start_time < :to AND end_time > :from " +
+            "UNION ALL SELECT " + COLUMNS + " FROM event_archive WHERE start_time < :to AND end_time > :from " +
+            "ORDER BY start_time")
+    Flux<ReactiveEvent> findOverlapping(Instant from, Instant to);
+
+    @Query("SELECT " + COLUMNS + " FROM event_archive WHERE id = :id")
+    Mono<ReactiveEvent> findArchivedById(Long id);
+}
@@ -0,0 +1,49 @@
+package com.example.eventapi.reactive.service;
+
+import com.example.eventapi.reactive.model.ReactiveEvent;
+import com.example.eventapi.reactive.repository.ReactiveEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.NoSuchElementException;
+
+/**
+ * Read side of the {@code /events} contract. Writes are left to event-api, which keeps its caches, booking
+ * checks, history, reminders and read models in step with the {@code event} table.
+ */
+@Service
+public class ReactiveEventService {
+
+    private final ReactiveEventRepository eventRepository;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveEventService.class);
+
+    public ReactiveEventService(ReactiveEventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    public Flux<ReactiveEvent> getAllEvents() {
+        LOGGER.info("Getting all events");
+        return eventRepository.findAll();
+    }
+
+    public Flux<ReactiveEvent> getEventsBetween(Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            return Flux.error(new IllegalArgumentException("from must be before to"));
+        }
+        LOGGER.info("Getting events between {} and {}", from, to);
+        return eventRepository.findOverlapping(from, to);
+    }
+
+    public Mono<ReactiveEvent> getEventById(Long id) {
+        LOGGER.info("Getting event by id: {}", id);
+        return eventRepository.findById(id)
+                .switchIfEmpty(Mono.defer(() -> eventRepository.findArchivedById(id)))
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException(
+                        String.format("Event with id: %s does not exist", id))));
+    }
+}
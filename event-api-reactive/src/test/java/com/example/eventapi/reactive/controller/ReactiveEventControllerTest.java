@@ -0,0 +1,107 @@
+package com.example.eventapi.reactive.controller;
+
+import com.example.eventapi.reactive.mapper.ReactiveEventMapper;
+import com.example.eventapi.reactive.model.ReactiveEvent;
+import com.example.eventapi.reactive.service.ReactiveEventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.NoSuchElementException;
+
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(ReactiveEventController.class)
+@Import(ReactiveEventMapper.class)
+class ReactiveEventControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReactiveEventService eventService;
+
+    @Test
+    void getAll_ShouldReturnOnlyRequestedFields() {
+        when(eventService.getAllEvents()).thenReturn(Flux.just(createSavedTestEvent()));
+
+        webTestClient.get().uri("/events?fields=title")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Test Event")
+                .jsonPath("$[0].description").doesNotExist();
+    }
+
+    @Test
+    void getEventById_ShouldReturnNotFoundWhenEventDoesNotExist() {
+        when(eventService.getEventById(999L))
+                .thenReturn(Mono.error(new NoSuchElementException("Event with id: 999 does not exist")));
+
+        webTestClient.get().uri("/events/999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Event with id: 999 does not exist")
+                .jsonPath("$.timestamp").isEqualTo("2024-12-25T09:00:00");
+    }
+
+    @Test
+    void saveEvent_ShouldBeRejectedBecauseWritesGoToEventApi() {
+        webTestClient.post().uri("/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"Test Event\"}")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void updateAndDeleteEvent_ShouldBeRejectedBecauseWritesGoToEventApi() {
+        webTestClient.put().uri("/events/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"Test Event\"}")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+        webTestClient.delete().uri("/events/1")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+
+        verifyNoInteractions(eventService);
+    }
+
+    private ReactiveEvent createSavedTestEvent() {
+        ReactiveEvent event = new ReactiveEvent();
+        event.setId(1L);
+        event.setTitle("Test Event");
+        event.setDescription("Test Description");
+        event.setStartTime(Instant.parse("2024-12-25T10:00:00Z"));
+        event.setEndTime(Instant.parse("2024-12-25T12:00:00Z"));
+        event.setLocation("Test Location");
+        event.setColor("#1a73e8");
+        return event;
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class FixedClock {
+
+        @Bean
+        Clock clock() {
+            return Clock.fixed(Instant.parse("2024-12-25T09:00:00Z"), ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.eventapi.reactive.service;
+
+import com.example.eventapi.reactive.model.ReactiveEvent;
+import com.example.eventapi.reactive.repository.ReactiveEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.NoSuchElementException;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveEventServiceTest {
+
+    @Mock
+    private ReactiveEventRepository eventRepository;
+
+    @InjectMocks
+    private ReactiveEventService eventService;
+
+    @Test
+    void getEventById_ShouldNotQueryArchiveWhenEventExists() {
+        ReactiveEvent event = event(1L);
+        when(eventRepository.findById(1L)).thenReturn(Mono.just(event));
+
+        StepVerifier.create(eventService.getEventById(1L))
+                .expectNext(event)
+                .verifyComplete();
+
+        verify(eventRepository, never()).findArchivedById(1L);
+    }
+
+    @Test
+    void getEventById_ShouldFallBackToArchive() {
+        ReactiveEvent archived = event(1L);
+        when(eventRepository.findById(1L)).thenReturn(Mono.empty());
+        when(eventRepository.findArchivedById(1L)).thenReturn(Mono.just(archived));
+
+        StepVerifier.create(eventService.getEventById(1L))
+                .expectNext(archived)
+                .verifyComplete();
+    }
+
+    @Test
+    void getEventById_ShouldFailWhenEventIsNeitherLiveNorArchived() {
+        when(eventRepository.findById(1L)).thenReturn(Mono.empty());
+        when(eventRepository.findArchivedById(1L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(eventService.getEventById(1L))
+                .expectError(NoSuchElementException.class)
+                .verify();
+    }
+
+    private static ReactiveEvent event(Long id) {
+        ReactiveEvent event = new ReactiveEvent();
+        event.setId(id);
+        event.setTitle("Test Event");
+        return event;
+    }
+}
@@ -0,0 +1,51 @@
+#!/usr/bin/env sh
+# Startup-to-first-request time and resident memory of the regular image versus the fast-startup image
+# (Spring AOT + CDS, see Dockerfile.fast-startup).
+#
+# Start the database first:
+#   docker compose up -d mysql
+#
+# Requires docker, curl and GNU date. Run from the event-api directory.
+set -eu
+
+RUNS="${RUNS:-5}"
+NETWORK="${NETWORK:-$(docker network ls --filter name=web-calendar-network --format '{{.Name}}' | head -n 1)}"
+DATASOURCE_URL="${DATASOURCE_URL:-jdbc:mysql://mysql:3306/event_api_db}"
+PORT="${PORT:-18081}"
+
+docker build -q -t event-api:regular -f Dockerfile . > /dev/null
+docker build -q -t event-api:fast-startup -f Dockerfile.fast-startup . > /dev/null
+
+now_ms() {
+  date +%s%3N
+}
+
+measure() {
+  image="$1"
+  container="event-api-startup-bench"
+
+  start=$(now_ms)
+  docker run -d --name "$container" --network "$NETWORK" -p "$PORT:8081" \
+    -e SPRING_DATASOURCE_URL="$DATASOURCE_URL" \
+    -e SPRING_DATASOURCE_USERNAME=user \
+    -e SPRING_DATASOURCE_PASSWORD=password \
+    "$image" > /dev/null
+  until curl -fs -o /dev/null "http://localhost:$PORT/events"; do
+    sleep 0.05
+  done
+  end=$(now_ms)
+
+  rss=$(docker exec "$container" sh -c 'grep VmRSS /proc/1/status' | awk '{print $2}')
+  docker rm -f "$container" > /dev/null
+  echo "$((end - start)) $rss"
+}
+
+for image in event-api:regular event-api:fast-startup; do
+  echo "== $image"
+  i=1
+  while [ "$i" -le "$RUNS" ]; do
+    set -- $(measure "$image")
+    echo "run $i: first request after $1 ms, RSS $(($2 / 1024)) MB"
+    i=$((i + 1))
+  done
+done
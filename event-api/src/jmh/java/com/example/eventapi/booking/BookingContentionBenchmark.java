@@ -0,0 +1,126 @@
+package com.example.eventapi.booking;
+
+import com.example.eventapi.EventApiApplication;
+import com.example.eventapi.model.Event;
+import com.example.eventapi.service.EventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write latency of {@link EventService#saveEvent} with and without double-booking checks, with all writers
+ * booking the same location (every write waits for the location lock) or each writer its own location.
+ * Bookings never overlap, so every write succeeds and the numbers show the cost of the lock and the probe.
+ * <p>
+ * Starts MySQL with Testcontainers unless {@code -Dbenchmark.datasource.url} (plus {@code .username} and
+ * {@code .password}) points at an existing database.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class BookingContentionBenchmark {
+
+    @Param({"false", "true"})
+    public boolean enforce;
+
+    @Param({"shared", "distinct"})
+    public String locations;
+
+    private MySQLContainer<?> mysql;
+
+    private ConfigurableApplicationContext context;
+
+    private EventService eventService;
+
+    private final AtomicLong slots = new AtomicLong();
+
+    private final AtomicInteger writers = new AtomicInteger();
+
+    private final String run = Long.toString(System.nanoTime(), 36);
+
+    @State(Scope.Thread)
+    public static class Writer {
+
+        private String location;
+
+        @Setup(Level.Trial)
+        public void setUp(BookingContentionBenchmark benchmark) {
+            location = benchmark.locations.equals("shared")
+                    ? "Shared Room " + benchmark.run
+                    : "Room " + benchmark.run + "-" + benchmark.writers.incrementAndGet();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("benchmark.datasource.url");
+        String username = System.getProperty("benchmark.datasource.username", "user");
+        String password = System.getProperty("benchmark.datasource.password", "password");
+        if (url == null) {
+            mysql = new MySQLContainer<>("mysql:8.0");
+            mysql.start();
+            url = mysql.getJdbcUrl();
+            username = mysql.getUsername();
+            password = mysql.getPassword();
+        }
+        context = new SpringApplicationBuilder(EventApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=" + username,
+                        "spring.datasource.password=" + password,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.example.eventapi=warn",
+                        "booking.enabled=" + enforce,
+                        "reminders.enabled=false",
+                        "retention.enabled=false",
+                        "snapshot.enabled=false",
+                        "warmup.enabled=false")
+                .run();
+        eventService = context.getBean(EventService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    @Benchmark
+    public Event saveEvent(Writer writer) {
+        // Each write gets its own hour, so bookings never conflict
+        Instant start = Instant.parse("2030-01-01T00:00:00Z").plusSeconds(slots.incrementAndGet() * 3600);
+        Event event = new Event();
+        event.setTitle("Benchmark");
+        event.setStartTime(start);
+        event.setEndTime(start.plusSeconds(3600));
+        event.setLocation(writer.location);
+        return eventService.saveEvent(event);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.eventapi.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link TimeOrderedIdGenerator} with one and with eight threads competing for the sequence.
+ * Above 128 ids per millisecond the generator borrows future milliseconds, so the numbers include that path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private TimeOrderedIdGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = new TimeOrderedIdGenerator(Clock.systemUTC());
+        generator.lease(1, 0, Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long singleThread() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long contended() {
+        return generator.nextId();
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.eventapi.validation;
+
+import com.example.eventapi.dto.EventRequest;
+import com.example.eventapi.exception.ApiError;
+import com.example.eventapi.service.EventRequestValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Validation of one request through to the 400 body, and of a 1000 item batch with every tenth item invalid,
+ * comparing {@link EventRequestValidator} with the previous implementation, kept below as {@link LegacyValidator}.
+ * Both sides check the same nine rules and return their per-item results the same way, so the difference is the
+ * validation style alone. Run with {@code -prof gc} to compare allocation per operation as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private static final String PATH = "/events";
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private final Clock clock = Clock.systemUTC();
+
+    private final EventRequestValidator validator = new EventRequestValidator();
+
+    private final LegacyValidator legacyValidator = new LegacyValidator();
+
+    private EventRequest request;
+
+    private List<EventRequest> batch;
+
+    @Setup
+    public void setUp() {
+        request = request(input.equals("invalid"));
+        batch = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            batch.add(request(i % 10 == 0));
+        }
+    }
+
+    @Benchmark
+    public Object legacy() {
+        try {
+            legacyValidator.validate(request);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return new ApiError(LocalDateTime.now(clock), HttpStatus.BAD_REQUEST, e.getMessage(), PATH);
+        }
+    }
+
+    @Benchmark
+    public Object engine() {
+        try {
+            validator.validate(request);
+            return null;
+        } catch (EventValidationException e) {
+            return new ApiError(LocalDateTime.now(clock), HttpStatus.BAD_REQUEST, e.getMessage(), PATH,
+                    e.getResult().getViolations());
+        }
+    }
+
+    /**
+     * One message per item, null when valid, mirroring {@link EventRequestValidator#checkAll}.
+     */
+    @Benchmark
+    public List<String> legacyBatch() {
+        List<String> results = new ArrayList<>(batch.size());
+        for (EventRequest item : batch) {
+            try {
+                legacyValidator.validate(item);
+                results.add(null);
+            } catch (IllegalArgumentException e) {
+                results.add(e.getMessage());
+            }
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<ValidationResult> engineBatch() {
+        return validator.checkAll(batch);
+    }
+
+    private static EventRequest request(boolean invalid) {
+        EventRequest request = new EventRequest();
+        request.setTitle("Team sync");
+        request.setStartTime(Instant.parse("2025-09-01T10:00:00Z"));
+        request.setEndTime(invalid ? Instant.parse("2025-09-01T09:00:00Z") : Instant.parse("2025-09-01T11:00:00Z"));
+        request.setColor(invalid ? "blue" : "#1a73e8");
+        request.setReminderMinutes(15);
+        return request;
+    }
+
+    /**
+     * {@code EventRequestValidator} before the validation engine: a list and joined message per call, a regex
+     * matcher per color and an exception with a stack trace per invalid request. It only checked the time order
+     * and the color, leaving the rest to bean validation; the other rules of {@link EventValidationCode} are added
+     * here in the same style, with the same messages and order.
+     */
+    static final class LegacyValidator {
+
+        private static final Pattern HEX_COLOR_PATTERN = Pattern.compile("^#[0-9A-Fa-f]{6}$");
+
+        void validate(EventRequest request) {
+            List<String> errors = new ArrayList<>();
+            if (request.getTitle() == null) {
+                errors.add("title cannot be null");
+            } else if (request.getTitle().isEmpty()) {
+                errors.add("title cannot be empty");
+            }
+            if (request.getStartTime() == null) {
+                errors.add("start time cannot be null");
+            }
+            if (request.getEndTime() == null) {
+                errors.add("end time cannot be null");
+            }
+            if (request.getStartTime() != null && request.getEndTime() != null) {
+                if (request.getStartTime().equals(request.getEndTime())) {
+                    errors.add("Start date and past data cannot be the same");
+                }
+                if (request.getEndTime().isBefore(request.getStartTime())) {
+                    errors.add("End time must be after start time");
+                }
+            }
+            String color = request.getColor();
+            if (color != null && !color.isEmpty() && !HEX_COLOR_PATTERN.matcher(color).matches()) {
+                errors.add("Color must be a valid hex color code (e.g., #6f42c1)");
+            }
+            Integer reminderMinutes = request.getReminderMinutes();
+            if (reminderMinutes != null) {
+                if (reminderMinutes < 0) {
+                    errors.add("reminder minutes cannot be negative");
+                } else if (reminderMinutes > EventRequest.MAX_REMINDER_MINUTES) {
+                    errors.add("reminder cannot be set more than " + EventRequest.MAX_REMINDER_MINUTES
+                            + " minutes before start");
+                }
+            }
+            if (!errors.isEmpty()) {
+                throw new IllegalArgumentException(String.join("; ", errors));
+            }
+        }
+    }
+}
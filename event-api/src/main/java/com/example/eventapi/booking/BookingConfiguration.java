@@ -0,0 +1,9 @@
+package com.example.eventapi.booking;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(BookingProperties.class)
+public class BookingConfiguration {
+}
@@ -0,0 +1,20 @@
+package com.example.eventapi.booking;
+
+import com.example.eventapi.model.Event;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BookingConflictException extends RuntimeException {
+
+    private final String location;
+
+    private final List<Event> conflicts;
+
+    public BookingConflictException(String location, List<Event> conflicts) {
+        super(String.format("%s is already booked at that time", location));
+        this.location = location;
+        this.conflicts = conflicts;
+    }
+}
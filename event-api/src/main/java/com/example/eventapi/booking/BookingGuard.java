@@ -0,0 +1,51 @@
+package com.example.eventapi.booking;
+
+import com.example.eventapi.model.Event;
+import com.example.eventapi.repository.EventRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Rejects events that overlap another event at the same location.
+ * <p>
+ * Writers for the same location are serialized on a {@code resource_lock} row, locked with an
+ * {@code insert ... on duplicate key update} that takes the exclusive lock in one step, so two concurrent
+ * writers can neither both miss each other's event nor deadlock upgrading a shared lock. The lock is held until
+ * the write commits. The overlap probe then uses {@code idx_event_location_time}: equality on location and a
+ * range on start time. Callers run at read committed, so the probe sees every event committed before the lock
+ * was granted.
+ */
+@Component
+public class BookingGuard {
+
+    private final EventRepository eventRepository;
+
+    private final BookingProperties properties;
+
+    public BookingGuard(EventRepository eventRepository, BookingProperties properties) {
+        this.eventRepository = eventRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * @param excludeId the event being updated, or {@code null} for a new event
+     * @throws BookingConflictException if the location is already booked for part of the event's time
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void check(Event event, Long excludeId) {
+        String location = event.getLocation();
+        if (!properties.enforces(location)) {
+            return;
+        }
+        eventRepository.lockResource(location);
+        List<Event> conflicts = eventRepository.findConflicts(location, event.getStartTime(), event.getEndTime(),
+                excludeId, Limit.of(properties.getMaxReportedConflicts()));
+        if (!conflicts.isEmpty()) {
+            throw new BookingConflictException(location, conflicts);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.eventapi.booking;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = "booking")
+public class BookingProperties {
+
+    /**
+     * Rejects events that overlap another event at the same location.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Locations checked for double booking, ignoring case. Empty means every location.
+     */
+    private Set<String> resources = new HashSet<>();
+
+    /**
+     * Conflicting events listed in a 409 response.
+     */
+    private int maxReportedConflicts = 10;
+
+    public boolean enforces(String location) {
+        return enabled && location != null
+                && (resources.isEmpty() || resources.stream().anyMatch(location::equalsIgnoreCase));
+    }
+}
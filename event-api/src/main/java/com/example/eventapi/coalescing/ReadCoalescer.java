@@ -0,0 +1,190 @@
+package com.example.eventapi.coalescing;
+
+import com.example.eventapi.service.EventChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical concurrent reads. The first caller for a key runs the query in its own
+ * read-only transaction; callers arriving while it is in flight wait for and share its result instead of
+ * running the same query again. Shared results must be treated as read-only.
+ * <p>
+ * Every committed {@link EventChange} starts a new generation. A read never joins a flight started in an
+ * earlier generation, so a read issued after a write returned always sees that write.
+ * <p>
+ * A waiting caller gives up after {@code read-coalescing.wait-timeout} and runs its own query. If the leading
+ * caller is interrupted, waiting callers run their own query rather than inheriting the interruption; any
+ * other failure of the query is rethrown to every caller that shared it.
+ */
+public class ReadCoalescer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadCoalescer.class);
+
+    private final ReadCoalescingProperties properties;
+
+    private final TransactionOperations readOnlyTransaction;
+
+    private final Map<Object, Flight> flights = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter executed;
+
+    private final Counter joined;
+
+    private final Counter bypassed;
+
+    private final Counter timedOut;
+
+    private final Counter retried;
+
+    public ReadCoalescer(ReadCoalescingProperties properties,
+                         TransactionOperations readOnlyTransaction,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.executed = outcomeCounter(meterRegistry, "executed");
+        this.joined = outcomeCounter(meterRegistry, "joined");
+        this.bypassed = outcomeCounter(meterRegistry, "bypassed");
+        this.timedOut = outcomeCounter(meterRegistry, "timeout");
+        this.retried = outcomeCounter(meterRegistry, "retried");
+        Gauge.builder("events.read.coalescing.in-flight", flights, Map::size)
+                .description("Distinct reads currently in flight")
+                .register(meterRegistry);
+        Gauge.builder("events.read.coalescing.waiting", this, ReadCoalescer::waiting)
+                .description("Reads waiting for an identical read in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code query}, or waits for an identical query already in flight. Keys must identify both the query
+     * and its arguments; a key always maps to the same result type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(Object key, Supplier<T> query) {
+        if (!properties.isEnabled()) {
+            bypassed.increment();
+            return execute(query);
+        }
+        long current = generation.get();
+        Flight flight = new Flight(current);
+        Flight existing = flights.putIfAbsent(key, flight);
+        if (existing == null) {
+            return lead(key, flight, query);
+        }
+        if (existing.generation != current) {
+            // Started before the latest write, its result may be stale
+            bypassed.increment();
+            return execute(query);
+        }
+        return (T) join(existing, query);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        generation.incrementAndGet();
+    }
+
+    private <T> T lead(Object key, Flight flight, Supplier<T> query) {
+        executed.increment();
+        try {
+            T result = execute(query);
+            flights.remove(key, flight);
+            flight.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(Thread.currentThread().isInterrupted() ? new LeaderInterruptedException(e) : e);
+            throw e;
+        }
+    }
+
+    private Object join(Flight flight, Supplier<?> query) {
+        flight.waiters.incrementAndGet();
+        try {
+            Object result = flight.result.get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            joined.increment();
+            return result;
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            LOGGER.warn("Coalesced read still running after {}, running own query", properties.getWaitTimeout());
+            return execute(query);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a coalesced read");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof LeaderInterruptedException) {
+                retried.increment();
+                return execute(query);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            flight.waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Callers currently waiting for a read started by another caller.
+     */
+    int waiting() {
+        int waiting = 0;
+        for (Flight flight : flights.values()) {
+            waiting += flight.waiters.get();
+        }
+        return waiting;
+    }
+
+    private <T> T execute(Supplier<T> query) {
+        return readOnlyTransaction.execute(status -> query.get());
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("events.read.coalescing")
+                .description("Coalescable event reads by outcome; joined reads did not query the database")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class Flight {
+
+        private final long generation;
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        private Flight(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    private static final class LeaderInterruptedException extends RuntimeException {
+
+        private LeaderInterruptedException(Throwable cause) {
+            super(cause.getMessage(), cause, false, false);
+        }
+    }
+}
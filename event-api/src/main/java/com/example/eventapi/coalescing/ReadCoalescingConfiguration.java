@@ -0,0 +1,22 @@
+package com.example.eventapi.coalescing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ReadCoalescingProperties.class)
+public class ReadCoalescingConfiguration {
+
+    @Bean
+    public ReadCoalescer readCoalescer(ReadCoalescingProperties properties,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return new ReadCoalescer(properties, readOnlyTransaction, meterRegistry);
+    }
+}
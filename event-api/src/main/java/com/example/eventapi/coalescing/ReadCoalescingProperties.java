@@ -0,0 +1,18 @@
+package com.example.eventapi.coalescing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "read-coalescing")
+public class ReadCoalescingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How long a read waits for an identical in-flight read before running its own query.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(5);
+}
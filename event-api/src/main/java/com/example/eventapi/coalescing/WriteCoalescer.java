@@ -0,0 +1,334 @@
+package com.example.eventapi.coalescing;
+
+import com.example.eventapi.model.Event;
+import com.example.eventapi.service.EventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Collapses bursts of updates to the same event, as sent while an event is dragged or resized, into fewer
+ * {@link EventService#updateEvent} calls. An update to an event without an open window is written right away on
+ * the caller's thread (the leading edge) and opens a window of {@code write-coalescing.window}. Updates arriving
+ * within the window replace each other (last writer wins) and the latest is written when it closes (the trailing
+ * edge). The window then stays open for another period while updates keep coming, and closes once a period passes
+ * without one. A single update therefore costs no latency, and a continuous drag is written once per window.
+ * <p>
+ * The next window of an event is only scheduled after the write before it has finished, and trailing writes of
+ * one event always run on the same flush thread, so a later state is never written before an earlier one.
+ * How callers of trailing updates are answered is set by {@code write-coalescing.acknowledge}:
+ * <ul>
+ *     <li>{@code WRITTEN}: the caller waits for the write carrying its update and gets its outcome; callers
+ *     whose update was superseded within the window get the outcome of the write that superseded it. A caller
+ *     waits at most {@code window + shutdown-timeout}, typically up to one window;</li>
+ *     <li>{@code ACCEPTED}: the caller is answered as soon as the update is queued. A failure of the write is
+ *     logged and counted, and reads may return the previous state until the window closes.</li>
+ * </ul>
+ * Callers of leading updates always get the outcome of their own write.
+ * <p>
+ * Once {@code write-coalescing.max-pending} events have an open window, updates to other events are written
+ * right away. On shutdown, after the web server has stopped, all pending updates are written at once; those
+ * still not written after {@code write-coalescing.shutdown-timeout} fail.
+ * <p>
+ * Every update is counted in {@code events.write.coalescing} by outcome: {@code received} for each update taken
+ * by the coalescer, {@code superseded} when a later update replaced it, {@code written} or {@code failed} per
+ * write and {@code bypassed} for updates written directly. The write reduction is {@code superseded / received}.
+ */
+public class WriteCoalescer implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteCoalescer.class);
+
+    public enum Acknowledgement {
+        WRITTEN,
+        ACCEPTED
+    }
+
+    private final EventService eventService;
+
+    private final WriteCoalescingProperties properties;
+
+    private final Map<Long, Window> pending = new ConcurrentHashMap<>();
+
+    private final Counter received;
+
+    private final Counter superseded;
+
+    private final Counter written;
+
+    private final Counter failed;
+
+    private final Counter bypassed;
+
+    private volatile ScheduledThreadPoolExecutor[] flushers;
+
+    private volatile boolean running;
+
+    public WriteCoalescer(EventService eventService,
+                          WriteCoalescingProperties properties,
+                          MeterRegistry meterRegistry) {
+        if (properties.getFlushThreads() < 1) {
+            throw new IllegalArgumentException("Write coalescing needs at least one flush thread");
+        }
+        this.eventService = eventService;
+        this.properties = properties;
+        this.received = outcomeCounter(meterRegistry, "received");
+        this.superseded = outcomeCounter(meterRegistry, "superseded");
+        this.written = outcomeCounter(meterRegistry, "written");
+        this.failed = outcomeCounter(meterRegistry, "failed");
+        this.bypassed = outcomeCounter(meterRegistry, "bypassed");
+        Gauge.builder("events.write.coalescing.pending", pending, Map::size)
+                .description("Events with an open coalescing window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether updates should go through {@link #update}; false when disabled or not running.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled() && running;
+    }
+
+    /**
+     * Updates the event: right away if no window is open for it, otherwise coalesced with the other updates of
+     * the current window. For a coalesced update with {@code acknowledge=WRITTEN} this blocks until the write has
+     * committed and rethrows its failure, or fails with an {@link IllegalStateException} if the write has not
+     * finished within {@code window + shutdown-timeout}.
+     */
+    public Acknowledgement update(Long id, Event event) {
+        if (!running) {
+            bypassed.increment();
+            eventService.updateEvent(id, event);
+            return Acknowledgement.WRITTEN;
+        }
+        CompletableFuture<Void> write = new CompletableFuture<>();
+        boolean[] opened = new boolean[1];
+        Window window = pending.compute(id, (key, current) -> {
+            if (current == null) {
+                // Checked again here: once stop() has collected the pending events, no new window may open
+                if (!running || pending.size() >= properties.getMaxPending()) {
+                    return null;
+                }
+                opened[0] = true;
+                return new Window();
+            }
+            if (current.event != null) {
+                superseded.increment();
+            }
+            current.event = event;
+            current.writes.add(write);
+            return current;
+        });
+        if (window == null) {
+            bypassed.increment();
+            eventService.updateEvent(id, event);
+            return Acknowledgement.WRITTEN;
+        }
+        received.increment();
+        if (opened[0]) {
+            try {
+                write(id, event);
+            } finally {
+                scheduleClose(id);
+            }
+            return Acknowledgement.WRITTEN;
+        }
+        if (properties.getAcknowledge() == WriteCoalescingProperties.Acknowledge.ACCEPTED) {
+            return Acknowledgement.ACCEPTED;
+        }
+        await(id, write);
+        return Acknowledgement.WRITTEN;
+    }
+
+    @Override
+    public void start() {
+        ScheduledThreadPoolExecutor[] executors = new ScheduledThreadPoolExecutor[properties.getFlushThreads()];
+        for (int i = 0; i < executors.length; i++) {
+            String name = "event-write-coalescer-" + i;
+            executors[i] = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Pending windows are flushed explicitly in stop()
+            executors[i].setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        }
+        flushers = executors;
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ScheduledThreadPoolExecutor[] executors = flushers;
+        for (Long id : pending.keySet()) {
+            flusher(id).execute(() -> flush(id));
+        }
+        long deadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+        boolean terminated = true;
+        try {
+            for (ScheduledThreadPoolExecutor executor : executors) {
+                executor.shutdown();
+                terminated &= executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            terminated = false;
+        }
+        if (terminated) {
+            // Windows opened by updates that were in flight while the flushes above were submitted
+            for (Long id : pending.keySet()) {
+                flush(id);
+            }
+        } else {
+            int abandoned = 0;
+            for (Long id : pending.keySet()) {
+                if (abandon(id)) {
+                    abandoned++;
+                }
+            }
+            if (abandoned > 0) {
+                LOGGER.warn("Updates to {} events were not written within {}", abandoned, properties.getShutdownTimeout());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stops after the web server, so no update arrives after the final flush, and before the history
+        // writer, so the flushed changes are still recorded
+        return WebServerApplicationContext.START_STOP_LIFECYCLE_PHASE - 512;
+    }
+
+    private void scheduleClose(Long id) {
+        try {
+            flusher(id).schedule(() -> close(id), properties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // Stopped while the last write was running
+            flush(id);
+        }
+    }
+
+    /**
+     * Writes the latest update of the window, if any, and keeps the window open for another period; a window
+     * without updates is closed.
+     */
+    private void close(Long id) {
+        Window[] closed = new Window[1];
+        pending.computeIfPresent(id, (key, current) -> {
+            if (current.event == null) {
+                return null;
+            }
+            closed[0] = current;
+            return running ? new Window() : null;
+        });
+        if (closed[0] != null) {
+            write(id, closed[0]);
+            if (running) {
+                scheduleClose(id);
+            } else {
+                flush(id);
+            }
+        }
+    }
+
+    private void flush(Long id) {
+        Window entry = pending.remove(id);
+        if (entry != null && entry.event != null) {
+            write(id, entry);
+        }
+    }
+
+    private void write(Long id, Window entry) {
+        try {
+            write(id, entry.event);
+            entry.writes.forEach(write -> write.complete(null));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to write coalesced update of event with id: {}", id, e);
+            entry.writes.forEach(write -> write.completeExceptionally(e));
+        }
+    }
+
+    private void write(Long id, Event event) {
+        try {
+            eventService.updateEvent(id, event);
+            written.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+            throw e;
+        }
+    }
+
+    private boolean abandon(Long id) {
+        Window entry = pending.remove(id);
+        if (entry == null || entry.event == null) {
+            return false;
+        }
+        failed.increment();
+        IllegalStateException e = new IllegalStateException("Update of event with id: " + id + " was not written before shutdown");
+        entry.writes.forEach(write -> write.completeExceptionally(e));
+        return true;
+    }
+
+    private ScheduledThreadPoolExecutor flusher(Long id) {
+        ScheduledThreadPoolExecutor[] executors = flushers;
+        return executors[Math.floorMod(Long.hashCode(id), executors.length)];
+    }
+
+    /**
+     * Waits for the window to close plus the time a shutdown may take to write it, so a caller is never held
+     * longer than that, even if the write is stuck.
+     */
+    private void await(Long id, CompletableFuture<Void> write) {
+        try {
+            write.get(properties.getWindow().plus(properties.getShutdownTimeout()).toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the update to be written", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Update of event with id: " + id + " was not written in time", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("events.write.coalescing")
+                .description("Event updates handled by the write coalescer, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * An open window: the latest update received since the last write, if any, and its callers. Only accessed
+     * inside {@code pending.compute} until removed or replaced by a close or flush.
+     */
+    private static final class Window {
+
+        private Event event;
+
+        private final List<CompletableFuture<Void>> writes = new ArrayList<>();
+    }
+}
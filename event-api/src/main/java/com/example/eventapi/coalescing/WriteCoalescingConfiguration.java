@@ -0,0 +1,19 @@
+package com.example.eventapi.coalescing;
+
+import com.example.eventapi.service.EventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(WriteCoalescingProperties.class)
+public class WriteCoalescingConfiguration {
+
+    @Bean
+    public WriteCoalescer writeCoalescer(EventService eventService,
+                                         WriteCoalescingProperties properties,
+                                         MeterRegistry meterRegistry) {
+        return new WriteCoalescer(eventService, properties, meterRegistry);
+    }
+}
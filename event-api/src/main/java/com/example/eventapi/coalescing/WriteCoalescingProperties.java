@@ -0,0 +1,50 @@
+package com.example.eventapi.coalescing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "write-coalescing")
+public class WriteCoalescingProperties {
+
+    public enum Acknowledge {
+        /**
+         * Answer once the write that carries the update has committed, with its outcome: 204, or the error of
+         * the write (404, 409, ...).
+         */
+        WRITTEN,
+        /**
+         * Answer 202 as soon as the update is queued. Failures of the later write are only logged and counted.
+         */
+        ACCEPTED
+    }
+
+    private boolean enabled = false;
+
+    /**
+     * How long updates to an event are collected after a write before the latest is written. The first update of
+     * a burst is written right away; later ones wait up to this long, which is the latency coalescing adds.
+     */
+    private Duration window = Duration.ofMillis(250);
+
+    private Acknowledge acknowledge = Acknowledge.WRITTEN;
+
+    /**
+     * Events with an open window at most; updates to further events are written right away.
+     */
+    private int maxPending = 1000;
+
+    /**
+     * Threads writing coalesced updates, each holding a connection while it writes. Set it to the connection pool
+     * size ({@code spring.datasource.hikari.maximum-pool-size}, 10 unless configured) so trailing writes can use
+     * the whole pool. Updates to one event are always written by the same thread, in order.
+     */
+    private int flushThreads = 10;
+
+    /**
+     * How long shutdown waits for pending updates to be written.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
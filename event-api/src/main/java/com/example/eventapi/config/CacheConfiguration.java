@@ -0,0 +1,40 @@
+package com.example.eventapi.config;
+
+import com.example.eventapi.id.IdProperties;
+import com.example.eventapi.id.NodeIdLease;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+/**
+ * Hands the Spring managed JCache manager (configured from {@code ehcache.xml}) to Hibernate,
+ * so the second-level and query cache regions use the explicit sizing and TTLs defined there. The regions are
+ * local to each instance, so {@link SingleInstanceGuard} keeps a second instance from starting while they are on.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableCaching
+public class CacheConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(JCacheCacheManager cacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager.getCacheManager());
+    }
+
+    @Bean
+    public SingleInstanceGuard singleInstanceGuard(
+            @Value("${spring.jpa.properties.hibernate.cache.use_second_level_cache:false}") boolean secondLevelCacheEnabled,
+            JdbcTemplate jdbcTemplate,
+            ObjectProvider<NodeIdLease> nodeIdLease,
+            Clock clock,
+            IdProperties idProperties) {
+        return new SingleInstanceGuard(secondLevelCacheEnabled, jdbcTemplate, nodeIdLease, clock, idProperties.getLeaseTtl());
+    }
+}
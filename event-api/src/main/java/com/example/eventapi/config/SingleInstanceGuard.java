@@ -0,0 +1,100 @@
+package com.example.eventapi.config;
+
+import com.example.eventapi.id.NodeIdLease;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Refuses to start a second instance against the same database while the Hibernate second-level cache is on.
+ * The cache is local to each JVM, so a write on one instance would not evict the cached events of another,
+ * which would keep serving the old state until the entries expire.
+ * <p>
+ * Other instances are recognized by their live leases in {@code id_node_lease}. A lease left behind by an
+ * instance that crashed is waited out for up to {@code ids.lease-ttl} before startup fails, so a restart right
+ * after a crash still succeeds. Starts after {@link NodeIdLease} and before the web server.
+ */
+public class SingleInstanceGuard implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SingleInstanceGuard.class);
+
+    private final boolean secondLevelCacheEnabled;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectProvider<NodeIdLease> nodeIdLease;
+
+    private final Clock clock;
+
+    private final Duration timeout;
+
+    private volatile boolean running;
+
+    public SingleInstanceGuard(boolean secondLevelCacheEnabled,
+                               JdbcTemplate jdbcTemplate,
+                               ObjectProvider<NodeIdLease> nodeIdLease,
+                               Clock clock,
+                               Duration timeout) {
+        this.secondLevelCacheEnabled = secondLevelCacheEnabled;
+        this.jdbcTemplate = jdbcTemplate;
+        this.nodeIdLease = nodeIdLease;
+        this.clock = clock;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void start() {
+        if (secondLevelCacheEnabled) {
+            awaitSingleInstance();
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // After the node id lease, so this instance's own lease is already in place, and before the web server
+        return WebServerApplicationContext.START_STOP_LIFECYCLE_PHASE - 1536;
+    }
+
+    private void awaitSingleInstance() {
+        long deadline = clock.millis() + timeout.toMillis();
+        long pollMillis = Math.min(1000, Math.max(1, timeout.toMillis()));
+        int others;
+        while ((others = otherInstances()) > 0) {
+            if (clock.millis() >= deadline) {
+                throw new IllegalStateException(String.format("%d other instance(s) hold an id node lease on this " +
+                        "database. The second-level cache is local to each instance; run a single instance or " +
+                        "disable hibernate.cache.use_second_level_cache and use_query_cache on all of them", others));
+            }
+            LOGGER.warn("{} other instance(s) hold an id node lease, waiting up to {} for them to expire", others, timeout);
+            try {
+                Thread.sleep(pollMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for other instances to stop", e);
+            }
+        }
+    }
+
+    private int otherInstances() {
+        Integer leases = jdbcTemplate.queryForObject("select count(*) from id_node_lease where expires_at > now(3)", Integer.class);
+        NodeIdLease own = nodeIdLease.getIfAvailable();
+        return (leases == null ? 0 : leases) - (own != null && own.isRunning() ? 1 : 0);
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.eventapi.controller;
 
+import com.example.eventapi.coalescing.WriteCoalescer;
+import com.example.eventapi.dto.EventField;
+import com.example.eventapi.dto.EventHistoryPage;
 import com.example.eventapi.dto.EventRequest;
+import com.example.eventapi.dto.LocationSuggestion;
 import com.example.eventapi.mapper.EventMapper;
 import com.example.eventapi.model.Event;
 import com.example.eventapi.service.EventRequestValidator;
@@ -12,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -25,14 +30,18 @@ public class EventController {
 
     private final EventRequestValidator eventRequestValidator;
 
+    private final WriteCoalescer writeCoalescer;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(EventController.class);
 
     public EventController(EventMapper eventMapper,
                            EventService eventService,
-                           EventRequestValidator eventRequestValidator) {
+                           EventRequestValidator eventRequestValidator,
+                           WriteCoalescer writeCoalescer) {
         this.eventMapper = eventMapper;
         this.eventService = eventService;
         this.eventRequestValidator = eventRequestValidator;
+        this.writeCoalescer = writeCoalescer;
     }
 
     @PostMapping
@@ -44,9 +53,25 @@ public class EventController {
     }
 
     @GetMapping
-    public List<Event> getAll() {
-        LOGGER.info("Received request to get all events");
-        return eventService.getAllEvents();
+    public List<?> getAll(@RequestParam(required = false) String fields,
+                          @RequestParam(required = false) Instant from,
+                          @RequestParam(required = false) Instant to) {
+        if (from != null || to != null) {
+            return getBetween(fields, from, to);
+        }
+        if (fields == null || fields.isBlank()) {
+            LOGGER.info("Received request to get all events");
+            return eventService.getAllEvents();
+        }
+        LOGGER.info("Received request to get all events with fields: {}", fields);
+        return eventService.getAllEvents(EventField.parse(fields));
+    }
+
+    @GetMapping("/locations")
+    public List<LocationSuggestion> suggestLocations(@RequestParam(required = false) String prefix,
+                                                     @RequestParam(required = false) Integer limit) {
+        LOGGER.debug("Received request to suggest locations for prefix: {}", prefix);
+        return eventService.suggestLocations(prefix, limit);
     }
 
     @GetMapping("/{id}")
@@ -55,13 +80,25 @@ public class EventController {
         return eventService.getEventById(id);
     }
 
+    @GetMapping("/{id}/history")
+    public EventHistoryPage getEventHistory(@PathVariable Long id,
+                                            @RequestParam(required = false) Long before,
+                                            @RequestParam(required = false) Integer limit) {
+        LOGGER.info("Received request to get history of event by id: {}", id);
+        return eventService.getEventHistory(id, before, limit);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Void> updateEvent(@PathVariable Long id,
                                             @Valid @RequestBody EventRequest eventRequest) {
         LOGGER.info("Received request to update event by id: {}", eventRequest);
         eventRequestValidator.validate(eventRequest);
         Event event = eventMapper.toEntity(eventRequest);
-        eventService.updateEvent(id, event);
+        if (!writeCoalescer.isEnabled()) {
+            eventService.updateEvent(id, event);
+        } else if (writeCoalescer.update(id, event) == WriteCoalescer.Acknowledgement.ACCEPTED) {
+            return new ResponseEntity<>(HttpStatus.ACCEPTED);
+        }
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
@@ -71,4 +108,15 @@ public class EventController {
         eventService.deleteEvent(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
-}
+
+    private List<?> getBetween(String fields, Instant from, Instant to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to must be provided");
+        }
+        LOGGER.info("Received request to get events between {} and {}", from, to);
+        if (fields == null || fields.isBlank()) {
+            return eventService.getEventsBetween(from, to);
+        }
+        return eventService.getEventsBetween(from, to, EventField.parse(fields));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.example.eventapi.dto;
+
+import java.time.Instant;
+
+/**
+ * Keyset position of an event that is due for archiving.
+ */
+public interface ArchiveCandidate {
+
+    Long getId();
+
+    Instant getEndTime();
+}
@@ -0,0 +1,18 @@
+package com.example.eventapi.dto;
+
+import com.example.eventapi.model.Event;
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class ConflictingEvent {
+    Long id;
+    String title;
+    Instant startTime;
+    Instant endTime;
+
+    public static ConflictingEvent of(Event event) {
+        return new ConflictingEvent(event.getId(), event.getTitle(), event.getStartTime(), event.getEndTime());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.eventapi.dto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Event attributes that can be requested through the {@code fields} query parameter.
+ * The API name of each field matches the {@link com.example.eventapi.model.Event} attribute name.
+ */
+public enum EventField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    START_TIME("startTime"),
+    END_TIME("endTime"),
+    LOCATION("location"),
+    COLOR("color"),
+    REMINDER_MINUTES("reminderMinutes");
+
+    private final String attribute;
+
+    EventField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Parses a comma separated list of field names, e.g. {@code id,title,startTime}.
+     * The id is always selected so that clients can still address the returned rows.
+     */
+    public static Set<EventField> parse(String fields) {
+        Set<EventField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                selected.add(fromAttribute(trimmed));
+            }
+        }
+        return selected;
+    }
+
+    private static EventField fromAttribute(String attribute) {
+        return Arrays.stream(values())
+                .filter(field -> field.attribute.equals(attribute))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Unknown event field: %s", attribute)));
+    }
+}
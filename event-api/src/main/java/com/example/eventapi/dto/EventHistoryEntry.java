@@ -0,0 +1,24 @@
+package com.example.eventapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * One recorded change of an event. {@code previous} and {@code current} are the event as JSON before and after
+ * the change; {@code previous} is null for creations and {@code current} for deletions. {@code clientActor} is
+ * the actor header as sent by the client; it is not authenticated and must not be trusted as an identity.
+ */
+@Value
+public class EventHistoryEntry {
+    Long id;
+    Long eventId;
+    String type;
+    Instant changedAt;
+    String clientActor;
+    @JsonRawValue
+    String previous;
+    @JsonRawValue
+    String current;
+}
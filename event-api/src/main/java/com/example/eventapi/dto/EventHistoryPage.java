@@ -0,0 +1,15 @@
+package com.example.eventapi.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A page of history entries, newest first. Pass {@code nextBefore} as {@code before} to read the next page;
+ * it is null on the last page.
+ */
+@Value
+public class EventHistoryPage {
+    List<EventHistoryEntry> entries;
+    Long nextBefore;
+}
@@ -1,13 +1,17 @@
 package com.example.eventapi.dto;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Data;
 
 import java.time.Instant;
 
 @Data
 public class EventRequest {
+    public static final int MAX_REMINDER_MINUTES = 1440;
+
     @NotNull(message = "title cannot be null")
     @NotEmpty(message = "title cannot be empty")
     private String title;
@@ -18,4 +22,7 @@ public class EventRequest {
     private Instant endTime;
     private String location;
     private String color;
+    @PositiveOrZero(message = "reminder minutes cannot be negative")
+    @Max(value = MAX_REMINDER_MINUTES, message = "reminder cannot be set more than 1440 minutes before start")
+    private Integer reminderMinutes;
 }
@@ -0,0 +1,11 @@
+package com.example.eventapi.dto;
+
+/**
+ * Projection of a distinct location and the number of events using it.
+ */
+public interface LocationCount {
+
+    String getLocation();
+
+    Long getCount();
+}
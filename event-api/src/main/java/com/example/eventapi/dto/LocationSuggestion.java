@@ -0,0 +1,9 @@
+package com.example.eventapi.dto;
+
+import lombok.Value;
+
+@Value
+public class LocationSuggestion {
+    String location;
+    int count;
+}
@@ -0,0 +1,17 @@
+package com.example.eventapi.dto;
+
+import java.time.Instant;
+
+/**
+ * Projection of the columns needed to schedule a reminder.
+ */
+public interface ReminderCandidate {
+
+    Long getId();
+
+    String getTitle();
+
+    Instant getStartTime();
+
+    Integer getReminderMinutes();
+}
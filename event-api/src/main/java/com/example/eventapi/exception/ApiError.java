@@ -1,10 +1,13 @@
 package com.example.eventapi.exception;
 
+import com.example.eventapi.validation.FieldViolation;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @AllArgsConstructor
@@ -14,12 +17,24 @@ public class ApiError {
     private String error;
     private String message;
     private String path;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<FieldViolation> errors;
 
-    public ApiError(HttpStatus status, String message, String path) {
-        timestamp = LocalDateTime.now();
+    public ApiError(LocalDateTime timestamp, HttpStatus status, String message, String path) {
+        this(timestamp, status, message, path, List.of());
+    }
+
+    /**
+     * {@code timestamp} comes from the handler's {@code Clock}, so the error model does not read the system clock
+     * and default time zone itself.
+     */
+    public ApiError(LocalDateTime timestamp, HttpStatus status, String message, String path,
+                    List<FieldViolation> errors) {
+        this.timestamp = timestamp;
         this.status = status.value();
         this.error = status.getReasonPhrase();
         this.message = message;
         this.path = path;
+        this.errors = errors;
     }
 }
\ No newline at end of file
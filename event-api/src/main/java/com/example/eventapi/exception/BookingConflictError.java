@@ -0,0 +1,21 @@
+package com.example.eventapi.exception;
+
+import com.example.eventapi.dto.ConflictingEvent;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class BookingConflictError extends ApiError {
+    private List<ConflictingEvent> conflicts;
+
+    public BookingConflictError(LocalDateTime timestamp, String message, String path,
+                                List<ConflictingEvent> conflicts) {
+        super(timestamp, HttpStatus.CONFLICT, message, path);
+        this.conflicts = conflicts;
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.eventapi.exception;
 
 
+import com.example.eventapi.booking.BookingConflictException;
+import com.example.eventapi.dto.ConflictingEvent;
+import com.example.eventapi.validation.EventValidationException;
+import com.example.eventapi.validation.FieldViolation;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpStatus;
@@ -9,15 +13,25 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final Clock clock;
+
+    public GlobalExceptionHandler(Clock clock) {
+        this.clock = clock;
+    }
+
     @ExceptionHandler(NoSuchElementException.class)
     public ResponseEntity<ApiError> handleNotFound(NoSuchElementException ex, HttpServletRequest request) {
 
         ApiError error = new ApiError(
+                LocalDateTime.now(clock),
                 HttpStatus.NOT_FOUND,
                 ex.getMessage(),
                 request.getRequestURI()
@@ -30,6 +44,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiError> handleBadRequest(IllegalArgumentException ex, HttpServletRequest request) {
 
         ApiError error = new ApiError(
+                LocalDateTime.now(clock),
                 HttpStatus.BAD_REQUEST,
                 ex.getMessage(),
                 request.getRequestURI()
@@ -38,6 +53,33 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(EventValidationException.class)
+    public ResponseEntity<ApiError> handleInvalidEvent(EventValidationException ex, HttpServletRequest request) {
+
+        ApiError error = new ApiError(
+                LocalDateTime.now(clock),
+                HttpStatus.BAD_REQUEST,
+                ex.getMessage(),
+                request.getRequestURI(),
+                ex.getResult().getViolations()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(BookingConflictException.class)
+    public ResponseEntity<ApiError> handleBookingConflict(BookingConflictException ex, HttpServletRequest request) {
+
+        ApiError error = new BookingConflictError(
+                LocalDateTime.now(clock),
+                ex.getMessage(),
+                request.getRequestURI(),
+                ex.getConflicts().stream().map(ConflictingEvent::of).toList()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiError> handleValidationErrors(MethodArgumentNotValidException ex,
                                                            HttpServletRequest request) {
@@ -47,10 +89,17 @@ public class GlobalExceptionHandler {
                 .reduce((m1, m2) -> m1 + "; " + m2)
                 .orElse("Validation failed");
 
+        List<FieldViolation> violations = ex.getBindingResult().getFieldErrors().stream()
+                .map(fieldError -> FieldViolation.ofConstraint(fieldError.getField(), fieldError.getCode(),
+                        fieldError.getDefaultMessage()))
+                .toList();
+
         ApiError error = new ApiError(
+                LocalDateTime.now(clock),
                 HttpStatus.BAD_REQUEST,
                 message,
-                request.getRequestURI()
+                request.getRequestURI(),
+                violations
         );
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
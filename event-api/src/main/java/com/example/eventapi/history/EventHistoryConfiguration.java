@@ -0,0 +1,9 @@
+package com.example.eventapi.history;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(EventHistoryProperties.class)
+public class EventHistoryConfiguration {
+}
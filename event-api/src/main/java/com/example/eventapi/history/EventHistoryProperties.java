@@ -0,0 +1,44 @@
+package com.example.eventapi.history;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "history")
+public class EventHistoryProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Changes waiting to be written. When the queue is full a change waits up to {@link #offerTimeout} for room
+     * and is then dropped and counted in {@code events.history.records{outcome=dropped}}.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Upper bound on rows per batch insert; a batch takes whatever is queued, up to this many.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How long a write waits for room in a full queue. Zero drops right away so writes never slow down.
+     */
+    private Duration offerTimeout = Duration.ZERO;
+
+    /**
+     * How long shutdown waits for queued changes to be written. Changes still queued afterwards are lost.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Request header recorded as the client actor of a change. The API has no authentication, so the value is
+     * only what the client claims and is stored as such.
+     */
+    private String clientActorHeader = "X-User";
+
+    private int defaultLimit = 20;
+
+    private int maxLimit = 100;
+}
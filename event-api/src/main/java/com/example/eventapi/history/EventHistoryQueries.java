@@ -0,0 +1,80 @@
+package com.example.eventapi.history;
+
+import com.example.eventapi.dto.EventHistoryEntry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Plain JDBC access to {@code event_history}: batch inserts for {@link EventHistoryWriter} and keyset pages for
+ * reads. Timestamps are bound and read in UTC, like Hibernate does with {@code hibernate.jdbc.time_zone=UTC}.
+ */
+@Component
+public class EventHistoryQueries {
+
+    private static final String COLUMNS = "select id, event_id, change_type, changed_at, client_actor, previous, current from event_history";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventHistoryQueries(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(List<EventHistoryRecord> records) {
+        Calendar utc = utc();
+        jdbcTemplate.batchUpdate("insert into event_history (event_id, change_type, changed_at, client_actor, previous, current) " +
+                        "values (?, ?, ?, ?, ?, ?)", records, records.size(),
+                (ps, record) -> {
+                    ps.setLong(1, record.getEventId());
+                    ps.setString(2, record.getType().name());
+                    ps.setTimestamp(3, Timestamp.from(record.getChangedAt()), utc);
+                    ps.setString(4, record.getClientActor());
+                    setJson(ps, 5, record.getPrevious());
+                    setJson(ps, 6, record.getCurrent());
+                });
+    }
+
+    /**
+     * Returns up to {@code limit} entries of one event with an id below {@code before} (all when null), newest
+     * first. Seeks on {@code (event_id, id)}, so deep pages cost the same as the first one.
+     */
+    public List<EventHistoryEntry> findPage(long eventId, Long before, int limit) {
+        Calendar utc = utc();
+        if (before == null) {
+            return jdbcTemplate.query(COLUMNS + " where event_id = ? order by id desc limit ?",
+                    (rs, rowNum) -> entry(rs, utc), eventId, limit);
+        }
+        return jdbcTemplate.query(COLUMNS + " where event_id = ? and id < ? order by id desc limit ?",
+                (rs, rowNum) -> entry(rs, utc), eventId, before, limit);
+    }
+
+    private static EventHistoryEntry entry(ResultSet rs, Calendar utc) throws SQLException {
+        return new EventHistoryEntry(rs.getLong(1),
+                rs.getLong(2),
+                rs.getString(3),
+                rs.getTimestamp(4, utc).toInstant(),
+                rs.getString(5),
+                rs.getString(6),
+                rs.getString(7));
+    }
+
+    private static void setJson(PreparedStatement ps, int index, String json) throws SQLException {
+        if (json == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, json);
+        }
+    }
+
+    private static Calendar utc() {
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.eventapi.history;
+
+import com.example.eventapi.service.EventChange;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * A change waiting in {@link EventHistoryWriter}'s queue, with both event states already serialized.
+ */
+@Value
+public class EventHistoryRecord {
+    long eventId;
+    EventChange.Type type;
+    Instant changedAt;
+    String clientActor;
+    String previous;
+    String current;
+}
@@ -0,0 +1,78 @@
+package com.example.eventapi.history;
+
+import com.example.eventapi.model.Event;
+import com.example.eventapi.service.EventChange;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+
+/**
+ * Turns committed {@link EventChange}s into history records. Runs on the request thread right after commit, so
+ * only serialization and an enqueue are added to the request; the insert happens in {@link EventHistoryWriter}.
+ */
+@Component
+public class EventHistoryRecorder {
+
+    private final EventHistoryWriter writer;
+
+    private final EventHistoryProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final Clock clock;
+
+    public EventHistoryRecorder(EventHistoryWriter writer,
+                                EventHistoryProperties properties,
+                                ObjectMapper objectMapper,
+                                Clock clock) {
+        this.writer = writer;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        writer.offer(new EventHistoryRecord(change.getEventId(),
+                change.getType(),
+                clock.instant(),
+                clientActor(),
+                toJson(change.getPrevious()),
+                toJson(change.getCurrent())));
+    }
+
+    /**
+     * The configured header as sent by the client. Nothing verifies it, which is why it is stored as the client
+     * actor rather than as an identity.
+     */
+    private String clientActor() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            String actor = servletAttributes.getRequest().getHeader(properties.getClientActorHeader());
+            if (actor != null && !actor.isBlank()) {
+                return actor.length() > 255 ? actor.substring(0, 255) : actor;
+            }
+        }
+        return null;
+    }
+
+    private String toJson(Event event) {
+        if (event == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event with id: " + event.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.eventapi.history;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes {@link EventHistoryRecord}s to {@code event_history} from a bounded queue on a single background
+ * thread, so a mutation only pays for an in-memory enqueue. Each insert batch takes everything queued, up to
+ * {@code history.batch-size} rows: batches stay small when idle and grow with load.
+ * <p>
+ * Delivery is at most once:
+ * <ul>
+ *     <li>a change that finds the queue full for {@code history.offer-timeout} is dropped;</li>
+ *     <li>a batch that fails to insert is logged and dropped, it is not retried;</li>
+ *     <li>on shutdown the queue is drained for up to {@code history.shutdown-timeout}, after the web server has
+ *     stopped taking requests; whatever is left then is lost, including a batch still being inserted, as is the
+ *     queue on a crash;</li>
+ *     <li>a change offered once shutdown has begun is rejected and lost.</li>
+ * </ul>
+ * Every record is counted in {@code events.history.records} with outcome {@code written}, {@code dropped},
+ * {@code failed} or {@code lost}.
+ */
+@Component
+public class EventHistoryWriter implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventHistoryWriter.class);
+
+    private static final long POLL_MILLIS = 200;
+
+    private final EventHistoryQueries queries;
+
+    private final EventHistoryProperties properties;
+
+    private final BlockingQueue<EventHistoryRecord> queue;
+
+    private final Counter written;
+
+    private final Counter dropped;
+
+    private final Counter failed;
+
+    private final Counter lost;
+
+    private volatile boolean running;
+
+    private volatile boolean stopped;
+
+    /**
+     * Size of the batch being inserted, claimed by whoever counts it: the writer thread once the insert returns,
+     * or {@link #stop} when the thread is still inserting at the shutdown timeout.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile boolean overflowing;
+
+    private Thread thread;
+
+    public EventHistoryWriter(EventHistoryQueries queries,
+                              EventHistoryProperties properties,
+                              MeterRegistry meterRegistry) {
+        if (properties.getBatchSize() < 1) {
+            throw new IllegalArgumentException("History batch size must be positive");
+        }
+        this.queries = queries;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.written = counter(meterRegistry, "written");
+        this.dropped = counter(meterRegistry, "dropped");
+        this.failed = counter(meterRegistry, "failed");
+        this.lost = counter(meterRegistry, "lost");
+        Gauge.builder("events.history.queue.size", queue, BlockingQueue::size)
+                .description("Event changes waiting to be written to the history table")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a record, returning false if it was dropped because the queue stayed full or lost because the
+     * writer is stopping.
+     */
+    public boolean offer(EventHistoryRecord record) {
+        if (stopped) {
+            lost.increment();
+            return false;
+        }
+        boolean queued;
+        try {
+            queued = queue.offer(record, properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (queued && stopped && queue.remove(record)) {
+            // Raced with stop(): nothing drains the queue any more
+            lost.increment();
+            return false;
+        }
+        if (!queued) {
+            dropped.increment();
+            if (!overflowing) {
+                overflowing = true;
+                LOGGER.warn("History queue is full ({} records), dropping changes until the writer catches up",
+                        properties.getQueueCapacity());
+            }
+        }
+        return queued;
+    }
+
+    @Override
+    public void start() {
+        stopped = false;
+        running = true;
+        thread = new Thread(this::drain, "event-history-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        running = false;
+        try {
+            thread.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        boolean stuck = thread.isAlive();
+        if (stuck) {
+            thread.interrupt();
+        }
+        List<EventHistoryRecord> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        int unwritten = remaining.size() + (stuck ? inFlight.getAndSet(0) : 0);
+        if (unwritten > 0) {
+            lost.increment(unwritten);
+            LOGGER.warn("History writer did not finish within {}, {} changes were not recorded",
+                    properties.getShutdownTimeout(), unwritten);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stops after the web server and the write coalescer, once no more changes can come in
+        return WebServerApplicationContext.START_STOP_LIFECYCLE_PHASE - 1024;
+    }
+
+    private void drain() {
+        List<EventHistoryRecord> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                EventHistoryRecord first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, properties.getBatchSize() - 1);
+            write(batch);
+            batch.clear();
+            if (overflowing && queue.isEmpty()) {
+                overflowing = false;
+                LOGGER.info("History writer caught up, see events.history.records{outcome=dropped} for dropped changes");
+            }
+        }
+    }
+
+    private void write(List<EventHistoryRecord> batch) {
+        inFlight.set(batch.size());
+        try {
+            queries.insert(batch);
+            written.increment(inFlight.getAndSet(0));
+        } catch (RuntimeException e) {
+            failed.increment(inFlight.getAndSet(0));
+            LOGGER.error("Failed to write {} history records", batch.size(), e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("events.history.records")
+                .description("Event changes handed to the history writer, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.eventapi.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Assigns ids from the application's {@link IdGenerator} before insert. Unlike {@code IDENTITY}, Hibernate
+ * then knows the id without reading back a generated key, so inserts can be JDBC batched.
+ * <p>
+ * Created through Hibernate's bean container, which Spring Boot backs with the application context, so the
+ * generator is injected per context. This needs {@code hibernate.cdi.extensions=true}; without it Hibernate
+ * instantiates the class itself and fails for lack of a no-argument constructor.
+ */
+public class EventIdGenerator implements BeforeExecutionGenerator {
+
+    private final IdGenerator idGenerator;
+
+    public EventIdGenerator(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return idGenerator.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
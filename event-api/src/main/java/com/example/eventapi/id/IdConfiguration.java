@@ -0,0 +1,43 @@
+package com.example.eventapi.id;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * Registered as an auto-configuration (see {@code META-INF/spring}), so its conditions are evaluated after
+ * every application bean is known and a custom {@link IdGenerator} reliably replaces the default.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(IdProperties.class)
+public class IdConfiguration {
+
+    /**
+     * Default id strategy with its node id lease, both left out when another {@link IdGenerator} bean exists.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnMissingBean(IdGenerator.class)
+    static class TimeOrderedIdConfiguration {
+
+        @Bean
+        public TimeOrderedIdGenerator timeOrderedIdGenerator(Clock clock) {
+            return new TimeOrderedIdGenerator(clock);
+        }
+
+        @Bean
+        public NodeIdLease nodeIdLease(TimeOrderedIdGenerator generator,
+                                       JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager,
+                                       Clock clock,
+                                       IdProperties properties) {
+            return new NodeIdLease(generator, jdbcTemplate, new TransactionTemplate(transactionManager), clock, properties);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.eventapi.id;
+
+/**
+ * Source of entity ids assigned by the application before insert, so inserts need no generated-key round
+ * trip and can be batched. Declare a bean of this type to replace {@link TimeOrderedIdGenerator}.
+ */
+public interface IdGenerator {
+
+    long nextId();
+}
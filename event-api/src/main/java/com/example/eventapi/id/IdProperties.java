@@ -0,0 +1,21 @@
+package com.example.eventapi.id;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "ids")
+public class IdProperties {
+
+    /**
+     * How long a node id lease lasts without renewal. A crashed instance's node id is free again after this.
+     */
+    private Duration leaseTtl = Duration.ofSeconds(60);
+
+    /**
+     * How often the lease is renewed; must be well below {@link #leaseTtl}.
+     */
+    private Duration renewInterval = Duration.ofSeconds(20);
+}
@@ -0,0 +1,139 @@
+package com.example.eventapi.id;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Leases a node id from {@code id_node_lease} for {@link TimeOrderedIdGenerator} and keeps renewing it, so no two
+ * running instances share a node id. A free row is claimed with {@code select ... for update skip locked},
+ * so instances starting together never wait on each other.
+ * <p>
+ * The time of the newest id issued is stored with the lease on every renewal and on release, and a new holder of
+ * the node id continues after it. Between renewals the generator stops issuing ids once the lease would have
+ * expired by its own clock, which is read before the database extends it; a node id is only leased again after
+ * it expired by the database clock. With instance and database clocks in sync, ids issued under an expired
+ * lease are therefore always older than those of the next holder.
+ * <p>
+ * Starts before the web server and stops after it. Leasing in {@link #start()} rather than at bean creation
+ * keeps the database out of context refresh, which the CDS training run depends on.
+ */
+public class NodeIdLease implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NodeIdLease.class);
+
+    private final TimeOrderedIdGenerator generator;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionOperations transaction;
+
+    private final Clock clock;
+
+    private final IdProperties properties;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+
+    public NodeIdLease(TimeOrderedIdGenerator generator,
+                       JdbcTemplate jdbcTemplate,
+                       TransactionOperations transaction,
+                       Clock clock,
+                       IdProperties properties) {
+        if (properties.getRenewInterval().compareTo(properties.getLeaseTtl()) >= 0) {
+            throw new IllegalArgumentException("Id lease renew interval must be shorter than the lease TTL");
+        }
+        this.generator = generator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = transaction;
+        this.clock = clock;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        acquire();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        int nodeId = generator.getNodeId();
+        long lastIdMillis = generator.release();
+        jdbcTemplate.update("update id_node_lease set owner = null, expires_at = '1970-01-01 00:00:01', " +
+                "last_id_millis = greatest(last_id_millis, ?) where node_id = ? and owner = ?", lastIdMillis, nodeId, owner);
+        LOGGER.info("Released id node {}", nodeId);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Starts before, and stops after, the web server, the write coalescer and the history writer, which all
+        // insert events or history rows
+        return WebServerApplicationContext.START_STOP_LIFECYCLE_PHASE - 2048;
+    }
+
+    /**
+     * Extends the lease. If it was lost, e.g. after a long pause let it expire and another instance took the
+     * node id, a new one is leased before any further id is handed out under the old one.
+     */
+    @Scheduled(initialDelayString = "${ids.renew-interval:PT20S}", fixedDelayString = "${ids.renew-interval:PT20S}")
+    public void renew() {
+        if (!running) {
+            return;
+        }
+        int nodeId = generator.getNodeId();
+        long renewedAt = clock.millis();
+        int renewed = jdbcTemplate.update("update id_node_lease set expires_at = now(3) + interval ? microsecond, " +
+                "last_id_millis = greatest(last_id_millis, ?) where node_id = ? and owner = ?",
+                ttlMicros(), generator.lastIdMillis(), nodeId, owner);
+        if (renewed == 0) {
+            LOGGER.warn("Lease on id node {} was lost, leasing a new one", nodeId);
+            generator.release();
+            acquire();
+        } else {
+            generator.extendLease(renewedAt + properties.getLeaseTtl().toMillis());
+        }
+    }
+
+    private void acquire() {
+        long acquiredAt = clock.millis();
+        Lease lease = transaction.execute(status -> {
+            List<Lease> free = jdbcTemplate.query("select node_id, last_id_millis from id_node_lease where expires_at < now(3) " +
+                    "order by node_id limit 1 for update skip locked",
+                    (resultSet, rowNum) -> new Lease(resultSet.getInt("node_id"), resultSet.getLong("last_id_millis")));
+            if (free.isEmpty()) {
+                return null;
+            }
+            jdbcTemplate.update("update id_node_lease set owner = ?, expires_at = now(3) + interval ? microsecond where node_id = ?",
+                    owner, ttlMicros(), free.get(0).nodeId());
+            return free.get(0);
+        });
+        if (lease == null) {
+            throw new IllegalStateException("All " + TimeOrderedIdGenerator.MAX_NODES + " id node leases are taken");
+        }
+        generator.lease(lease.nodeId(), lease.lastIdMillis(), acquiredAt + properties.getLeaseTtl().toMillis());
+        LOGGER.info("Leased id node {}", lease.nodeId());
+    }
+
+    private long ttlMicros() {
+        return properties.getLeaseTtl().toNanos() / 1000;
+    }
+
+    private record Lease(int nodeId, long lastIdMillis) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.eventapi.id;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake-style ids that stay below 2<sup>53</sup>, so they survive as exact JSON numbers in JavaScript:
+ * <pre>
+ * | 41 bits milliseconds since 2025-01-01 | 5 bits node | 7 bits sequence |
+ * </pre>
+ * Ids from one node are strictly increasing and ids from all nodes are ordered by creation time to the
+ * millisecond, which keeps inserts at the right edge of the primary key.
+ * <p>
+ * The last (millisecond, sequence) pair is kept in a single {@link AtomicLong} and advanced with CAS, so
+ * generation is lock free. More than 128 ids in a millisecond, or a clock that moves backwards, borrow the
+ * next millisecond instead of blocking or failing; the clock catches up as soon as the burst ends.
+ * <p>
+ * Ids are only issued under a lease on the node id (see {@link NodeIdLease}) and only with a time before the
+ * lease runs out, so an instance that lost its lease, e.g. during a long pause, cannot issue ids that a later
+ * holder of the node id also issues. A new holder starts after the newest id recorded for the node, in case its
+ * clock is behind the previous holder's.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    public static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static final long EPOCH_MILLIS = EPOCH.toEpochMilli();
+
+    static final int SEQUENCE_BITS = 7;
+
+    static final int NODE_BITS = 5;
+
+    static final int TIME_BITS = 41;
+
+    public static final int MAX_NODES = 1 << NODE_BITS;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final long MAX_TIME = (1L << TIME_BITS) - 1;
+
+    private final Clock clock;
+
+    private final AtomicLong last = new AtomicLong();
+
+    private volatile int nodeId = -1;
+
+    private volatile long leaseExpiresAt;
+
+    public TimeOrderedIdGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        int node = nodeId;
+        if (node < 0) {
+            throw new IllegalStateException("No node id leased, ids cannot be generated yet");
+        }
+        long now = clock.millis() - EPOCH_MILLIS;
+        long previous;
+        long next;
+        do {
+            previous = last.get();
+            next = Math.max(now << SEQUENCE_BITS, previous + 1);
+        } while (!last.compareAndSet(previous, next));
+
+        long time = next >>> SEQUENCE_BITS;
+        if (time > MAX_TIME) {
+            throw new IllegalStateException("Id time bits exhausted");
+        }
+        if (EPOCH_MILLIS + time >= leaseExpiresAt) {
+            throw new IllegalStateException("Lease on id node " + node + " has expired, ids cannot be generated");
+        }
+        return (time << (NODE_BITS + SEQUENCE_BITS)) | ((long) node << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Starts issuing ids under {@code nodeId} until {@code expiresAt}, in epoch milliseconds of this generator's
+     * clock. Ids get a time after {@code lastIdMillis}, the newest id time recorded for the node by its previous
+     * holder, even while the clock is still behind it.
+     */
+    public void lease(int nodeId, long lastIdMillis, long expiresAt) {
+        if (nodeId < 0 || nodeId >= MAX_NODES) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + (MAX_NODES - 1));
+        }
+        long floor = Math.max(lastIdMillis - EPOCH_MILLIS + 1, 0) << SEQUENCE_BITS;
+        last.accumulateAndGet(floor - 1, Math::max);
+        this.leaseExpiresAt = expiresAt;
+        this.nodeId = nodeId;
+    }
+
+    public void extendLease(long expiresAt) {
+        this.leaseExpiresAt = expiresAt;
+    }
+
+    /**
+     * Stops issuing ids and returns {@link #lastIdMillis()}, to be recorded for the next holder of the node id.
+     */
+    public long release() {
+        nodeId = -1;
+        return lastIdMillis();
+    }
+
+    /**
+     * Time of the newest id issued, in epoch milliseconds.
+     */
+    public long lastIdMillis() {
+        return EPOCH_MILLIS + (last.get() >>> SEQUENCE_BITS);
+    }
+
+    public static Instant timestampOf(long id) {
+        return EPOCH.plusMillis(id >>> (NODE_BITS + SEQUENCE_BITS));
+    }
+
+    public static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & (MAX_NODES - 1));
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.eventapi.location;
+
+import com.example.eventapi.dto.LocationCount;
+import com.example.eventapi.dto.LocationSuggestion;
+import com.example.eventapi.model.Event;
+import com.example.eventapi.repository.EventRepository;
+import com.example.eventapi.service.EventChange;
+import com.example.eventapi.snapshot.EventColumns;
+import com.example.eventapi.snapshot.EventReadModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Distinct event locations in a sorted map keyed by their lower-cased form, with the number of events using
+ * each. A prefix lookup is a range scan of that map that keeps the {@code limit} most frequent entries, so it
+ * never touches the database.
+ * <p>
+ * Counts are updated from {@link EventChange}s and the whole index is rebuilt every
+ * {@code locations.rebuild-interval}: from the in-memory {@link EventReadModel} when it is loaded, otherwise from
+ * a {@code group by} query. A change that commits while a rebuild is running can be missed;
+ * the next rebuild corrects it.
+ */
+@Component
+public class LocationIndex implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocationIndex.class);
+
+    private static final Comparator<Entry> BY_RANK = Comparator.comparingInt(Entry::count).reversed()
+            .thenComparing(Entry::location, String.CASE_INSENSITIVE_ORDER);
+
+    private final EventRepository eventRepository;
+
+    private final EventReadModel readModel;
+
+    private volatile ConcurrentSkipListMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+
+    public LocationIndex(EventRepository eventRepository, EventReadModel readModel) {
+        this.eventRepository = eventRepository;
+        this.readModel = readModel;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${locations.rebuild-interval:PT30M}", fixedDelayString = "${locations.rebuild-interval:PT30M}")
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        ConcurrentSkipListMap<String, Entry> rebuilt = new ConcurrentSkipListMap<>();
+        boolean fromReadModel = readModel.isReady();
+        if (fromReadModel) {
+            Map<String, Integer> frequencies = readModel.read(EventColumns::locationFrequencies);
+            frequencies.forEach((location, count) -> merge(rebuilt, location, count));
+        } else {
+            for (LocationCount locationCount : eventRepository.countByLocation()) {
+                merge(rebuilt, locationCount.getLocation(), locationCount.getCount().intValue());
+            }
+        }
+        entries = rebuilt;
+        LOGGER.info("Rebuilt location index with {} locations from the {} in {} us", rebuilt.size(),
+                fromReadModel ? "read model" : "database", (System.nanoTime() - startedAt) / 1000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        String previous = location(change.getPrevious());
+        String current = location(change.getCurrent());
+        if (previous != null && previous.equalsIgnoreCase(current)) {
+            return;
+        }
+        if (previous != null) {
+            add(previous, -1);
+        }
+        if (current != null) {
+            add(current, 1);
+        }
+    }
+
+    /**
+     * The most used locations starting with {@code prefix}, ignoring case, most frequent first.
+     */
+    public List<LocationSuggestion> suggest(String prefix, int limit) {
+        String from = key(prefix.trim());
+        NavigableMap<String, Entry> matches = from.isEmpty()
+                ? entries
+                : entries.subMap(from, true, from + Character.MAX_VALUE, false);
+
+        PriorityQueue<Entry> top = new PriorityQueue<>(limit + 1, BY_RANK.reversed());
+        for (Entry entry : matches.values()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Entry> ranked = new ArrayList<>(top);
+        ranked.sort(BY_RANK);
+        return ranked.stream()
+                .map(entry -> new LocationSuggestion(entry.location(), entry.count()))
+                .toList();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static void merge(Map<String, Entry> index, String location, int count) {
+        String trimmed = location.trim();
+        if (!trimmed.isEmpty()) {
+            index.merge(key(trimmed), new Entry(trimmed, count),
+                    (existing, added) -> new Entry(existing.location(), existing.count() + added.count()));
+        }
+    }
+
+    private void add(String location, int delta) {
+        entries.compute(key(location), (key, existing) -> {
+            int count = (existing == null ? 0 : existing.count()) + delta;
+            if (count <= 0) {
+                return null;
+            }
+            return new Entry(existing == null ? location : existing.location(), count);
+        });
+    }
+
+    private static String location(Event event) {
+        if (event == null || event.getLocation() == null) {
+            return null;
+        }
+        String location = event.getLocation().trim();
+        return location.isEmpty() ? null : location;
+    }
+
+    private static String key(String location) {
+        return location.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String location, int count) {
+    }
+}
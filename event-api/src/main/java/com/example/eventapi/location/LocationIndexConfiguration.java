@@ -0,0 +1,9 @@
+package com.example.eventapi.location;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(LocationIndexProperties.class)
+public class LocationIndexConfiguration {
+}
@@ -0,0 +1,13 @@
+package com.example.eventapi.location;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "locations")
+public class LocationIndexProperties {
+
+    private int defaultLimit = 10;
+
+    private int maxLimit = 50;
+}
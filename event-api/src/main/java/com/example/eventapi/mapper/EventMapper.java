@@ -15,6 +15,7 @@ public class EventMapper {
         event.setEndTime(request.getEndTime());
         event.setLocation(request.getLocation());
         event.setColor(request.getColor());
+        event.setReminderMinutes(request.getReminderMinutes());
         return event;
     }
 }
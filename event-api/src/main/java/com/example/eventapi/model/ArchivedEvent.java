@@ -0,0 +1,47 @@
+package com.example.eventapi.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Event moved out of the hot {@code event} table by the retention job. Archived events are read only.
+ */
+@Data
+@Entity
+@Table(name = "event_archive")
+public class ArchivedEvent {
+    @Id
+    @Column(name = "id")
+    private Long id;
+    @Column(name = "title", nullable = false)
+    private String title;
+    @Column(name = "description")
+    private String description;
+    @Column(name = "start_time", nullable = false)
+    private Instant startTime;
+    @Column(name = "end_time", nullable = false)
+    private Instant endTime;
+    @Column(name = "location")
+    private String location;
+    @Column(name = "color")
+    private String color;
+    @Column(name = "reminder_minutes")
+    private Integer reminderMinutes;
+    @Column(name = "archived_at", nullable = false, insertable = false, updatable = false)
+    private Instant archivedAt;
+
+    public Event toEvent() {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle(title);
+        event.setDescription(description);
+        event.setStartTime(startTime);
+        event.setEndTime(endTime);
+        event.setLocation(location);
+        event.setColor(color);
+        event.setReminderMinutes(reminderMinutes);
+        return event;
+    }
+}
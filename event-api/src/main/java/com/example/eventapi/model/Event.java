@@ -1,16 +1,21 @@
 package com.example.eventapi.model;
 
+import com.example.eventapi.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event")
 @Table(name = "event")
 public class Event {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "id")
     private Long id;
     @Column(name = "title", nullable = false)
@@ -25,4 +30,19 @@ public class Event {
     private String location;
     @Column(name = "color")
     private String color;
+    @Column(name = "reminder_minutes")
+    private Integer reminderMinutes;
+
+    public Event copy() {
+        Event copy = new Event();
+        copy.setId(id);
+        copy.setTitle(title);
+        copy.setDescription(description);
+        copy.setStartTime(startTime);
+        copy.setEndTime(endTime);
+        copy.setLocation(location);
+        copy.setColor(color);
+        copy.setReminderMinutes(reminderMinutes);
+        return copy;
+    }
 }
@@ -0,0 +1,152 @@
+package com.example.eventapi.profiling;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * JDK proxies around JDBC objects that report executed statements, affected or read rows and execution time
+ * to the {@link SqlStatistics} bound to the current thread.
+ */
+final class JdbcProxies {
+
+    private JdbcProxies() {
+    }
+
+    static Connection connection(Connection target) {
+        return proxy(Connection.class, new ConnectionHandler(target));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(JdbcProxies.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        private final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return handle(method, args);
+            }
+        }
+
+        abstract Object handle(Method method, Object[] args) throws Throwable;
+
+        Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static final class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if (result instanceof Statement statement && isStatementFactory(method.getName())) {
+                return wrapStatement(method.getReturnType(), statement);
+            }
+            return result;
+        }
+
+        private static boolean isStatementFactory(String name) {
+            return name.equals("createStatement") || name.equals("prepareStatement") || name.equals("prepareCall");
+        }
+
+        private static Object wrapStatement(Class<?> type, Statement statement) {
+            return Proxy.newProxyInstance(JdbcProxies.class.getClassLoader(), new Class<?>[]{type}, new StatementHandler(statement));
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+
+        StatementHandler(Statement target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            SqlStatistics statistics = SqlStatisticsHolder.current();
+            if (statistics == null) {
+                return delegate(method, args);
+            }
+            if (name.equals("getResultSet")) {
+                return wrapResultSet(delegate(method, args));
+            }
+            if (!name.startsWith("execute")) {
+                return delegate(method, args);
+            }
+
+            long startedAt = System.nanoTime();
+            Object result = delegate(method, args);
+            statistics.recordStatement(System.nanoTime() - startedAt);
+            countAffectedRows(statistics, result);
+            return wrapResultSet(result);
+        }
+
+        private static void countAffectedRows(SqlStatistics statistics, Object result) {
+            if (result instanceof Integer count) {
+                statistics.addRows(count);
+            } else if (result instanceof Long count) {
+                statistics.addRows(count);
+            } else if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    statistics.addRows(Math.max(count, 0));
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    statistics.addRows(Math.max(count, 0));
+                }
+            }
+        }
+
+        private static Object wrapResultSet(Object result) {
+            if (result instanceof ResultSet resultSet) {
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet));
+            }
+            return result;
+        }
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+
+        ResultSetHandler(ResultSet target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                SqlStatistics statistics = SqlStatisticsHolder.current();
+                if (statistics != null) {
+                    statistics.addRows(1);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.eventapi.profiling;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class ProfilingDataSource extends DelegatingDataSource {
+
+    public ProfilingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return JdbcProxies.connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return JdbcProxies.connection(super.getConnection(username, password));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.eventapi.profiling;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every {@link DataSource} bean in a {@link ProfilingDataSource} unless {@code sql-profiler.enabled}
+ * is false. The pool stays reachable through {@link DataSource#unwrap(Class)}, so pool metrics and health
+ * checks keep working.
+ */
+public class ProfilingDataSourcePostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    private boolean enabled = true;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.enabled = environment.getProperty("sql-profiler.enabled", Boolean.class, true);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource && !(bean instanceof ProfilingDataSource)) {
+            return new ProfilingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
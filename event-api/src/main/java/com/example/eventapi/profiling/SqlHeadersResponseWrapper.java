@@ -0,0 +1,75 @@
+package com.example.eventapi.profiling;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds the {@code X-Sql-*} headers at the last moment they can still be set: when the body is about to be
+ * written, the response is flushed or an error or redirect is sent, or, for responses without a body, when
+ * the filter finishes. The body is passed through untouched rather than buffered.
+ * <p>
+ * Statements executed after the body has started, e.g. lazy loading during serialization, are not in the
+ * headers but still in the metrics.
+ */
+class SqlHeadersResponseWrapper extends HttpServletResponseWrapper {
+
+    private final SqlStatistics statistics;
+
+    private boolean headersWritten;
+
+    SqlHeadersResponseWrapper(HttpServletResponse response, SqlStatistics statistics) {
+        super(response);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        writeHeaders();
+        return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        writeHeaders();
+        return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        writeHeaders();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        writeHeaders();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        writeHeaders();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        writeHeaders();
+        super.sendRedirect(location);
+    }
+
+    void writeHeaders() {
+        if (headersWritten || isCommitted()) {
+            return;
+        }
+        headersWritten = true;
+        setHeader(SqlProfilingFilter.STATEMENTS_HEADER, String.valueOf(statistics.getStatements()));
+        setHeader(SqlProfilingFilter.ROWS_HEADER, String.valueOf(statistics.getRows()));
+        setHeader(SqlProfilingFilter.TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(statistics.getElapsedNanos())));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.eventapi.profiling;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sql-profiler")
+public class SqlProfilerProperties {
+
+    /**
+     * Checked at runtime rather than through a condition, so an AOT-processed build can still switch it off.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Adds {@code X-Sql-Statements}, {@code X-Sql-Rows} and {@code X-Sql-Time-Ms} to every response.
+     * Off by default and switched on by the {@code dev} profile; metrics are recorded either way.
+     */
+    private boolean exposeHeaders = false;
+}
@@ -0,0 +1,27 @@
+package com.example.eventapi.profiling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(SqlProfilerProperties.class)
+public class SqlProfilingConfiguration {
+
+    @Bean
+    public static ProfilingDataSourcePostProcessor profilingDataSourcePostProcessor() {
+        return new ProfilingDataSourcePostProcessor();
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlProfilingFilter> sqlProfilingFilter(MeterRegistry meterRegistry,
+                                                                        SqlProfilerProperties properties) {
+        FilterRegistrationBean<SqlProfilingFilter> registration =
+                new FilterRegistrationBean<>(new SqlProfilingFilter(meterRegistry, properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
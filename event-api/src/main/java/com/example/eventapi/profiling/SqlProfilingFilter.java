@@ -0,0 +1,79 @@
+package com.example.eventapi.profiling;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the SQL statements executed while handling a request and records them as
+ * {@code sql.request.statements}, {@code sql.request.rows} and {@code sql.request.time} per endpoint, and with
+ * {@code sql-profiler.expose-headers} also as response headers through {@link SqlHeadersResponseWrapper}.
+ */
+public class SqlProfilingFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private final MeterRegistry meterRegistry;
+
+    private final SqlProfilerProperties properties;
+
+    public SqlProfilingFilter(MeterRegistry meterRegistry, SqlProfilerProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        SqlStatistics statistics = SqlStatisticsHolder.start();
+        SqlHeadersResponseWrapper wrapper = properties.isExposeHeaders() ? new SqlHeadersResponseWrapper(response, statistics) : null;
+        try {
+            filterChain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            SqlStatisticsHolder.stop();
+            record(request, statistics);
+            if (wrapper != null) {
+                // Responses without a body
+                wrapper.writeHeaders();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+        DistributionSummary.builder("sql.request.statements")
+                .description("SQL statements executed per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        DistributionSummary.builder("sql.request.rows")
+                .description("Rows read or written per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getRows());
+        Timer.builder("sql.request.time")
+                .description("Time spent executing SQL statements per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getElapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+}
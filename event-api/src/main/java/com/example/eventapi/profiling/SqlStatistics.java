@@ -0,0 +1,40 @@
+package com.example.eventapi.profiling;
+
+/**
+ * SQL work done on behalf of one HTTP request (or one measured block in tests).
+ * Only ever touched by the thread that owns it.
+ */
+public class SqlStatistics {
+
+    private int statements;
+
+    private long rows;
+
+    private long elapsedNanos;
+
+    void recordStatement(long nanos) {
+        statements++;
+        elapsedNanos += nanos;
+    }
+
+    void addRows(long count) {
+        rows += count;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d statements, %d rows, %.3f ms", statements, rows, elapsedNanos / 1_000_000.0);
+    }
+}
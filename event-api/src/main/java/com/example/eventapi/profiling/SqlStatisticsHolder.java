@@ -0,0 +1,27 @@
+package com.example.eventapi.profiling;
+
+/**
+ * Binds the {@link SqlStatistics} being collected to the current thread. Statements executed while nothing is
+ * bound, e.g. by scheduled jobs, are not recorded.
+ */
+public final class SqlStatisticsHolder {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private SqlStatisticsHolder() {
+    }
+
+    public static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+}
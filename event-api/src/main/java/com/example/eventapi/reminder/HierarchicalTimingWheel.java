@@ -0,0 +1,176 @@
+package com.example.eventapi.reminder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel (Varghese &amp; Lauck). Level {@code i} has {@code wheelSize} buckets of
+ * {@code tickMillis * wheelSize^i} milliseconds each. A timer is placed in the lowest level whose span
+ * still covers its deadline and moves down one level each time the clock reaches its bucket, so scheduling
+ * and cancelling are O(1) and every timer is touched at most once per level before it expires.
+ * <p>
+ * Timers fire with tick granularity: a timer is returned by the first {@link #advance(long)} whose tick
+ * covers its deadline. Cancelled timers are dropped lazily when their bucket is reached.
+ * The wheel is thread safe; payloads are returned to the caller instead of being delivered under the lock.
+ */
+public class HierarchicalTimingWheel<K, T> {
+
+    private final long tickMillis;
+
+    private final int wheelSize;
+
+    private final List<Level<K, T>> levels = new ArrayList<>();
+
+    private final Map<K, Timer<K, T>> timers = new HashMap<>();
+
+    private final List<Timer<K, T>> due = new ArrayList<>();
+
+    private long currentTime;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("Wheel size must be at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMillis - (startMillis % tickMillis);
+        levels.add(new Level<>(tickMillis, wheelSize));
+    }
+
+    /**
+     * Schedules {@code payload} under {@code key}, replacing any timer already scheduled for that key.
+     * A deadline that falls into the current tick is returned by the next {@link #advance(long)}.
+     */
+    public synchronized void schedule(K key, T payload, long deadlineMillis) {
+        Timer<K, T> timer = new Timer<>(key, payload, deadlineMillis);
+        Timer<K, T> replaced = timers.put(key, timer);
+        if (replaced != null) {
+            replaced.cancelled = true;
+        }
+        place(timer);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Timer<K, T> timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        timer.cancelled = true;
+        return true;
+    }
+
+    /**
+     * Moves the clock forward to {@code nowMillis} and returns the payloads of all timers that expired,
+     * in tick order.
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        drainDue(expired);
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+            // Higher levels first, so timers cascading into the bucket of the current tick expire right away
+            for (int i = levels.size() - 1; i >= 0; i--) {
+                Level<K, T> level = levels.get(i);
+                if (currentTime % level.tickMillis == 0) {
+                    cascade(level.bucketFor(currentTime));
+                }
+            }
+            drainDue(expired);
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return timers.size();
+    }
+
+    private void place(Timer<K, T> timer) {
+        if (timer.deadline < currentTime + tickMillis) {
+            due.add(timer);
+            return;
+        }
+        for (int i = 0; ; i++) {
+            Level<K, T> level = level(i);
+            long levelTime = currentTime - (currentTime % level.tickMillis);
+            if (timer.deadline < levelTime + level.spanMillis) {
+                level.bucketFor(timer.deadline).add(timer);
+                return;
+            }
+        }
+    }
+
+    private void cascade(List<Timer<K, T>> bucket) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Timer<K, T>> pending = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Timer<K, T> timer : pending) {
+            if (!timer.cancelled) {
+                place(timer);
+            }
+        }
+    }
+
+    private void drainDue(List<T> expired) {
+        for (Timer<K, T> timer : due) {
+            if (!timer.cancelled) {
+                timers.remove(timer.key, timer);
+                expired.add(timer.payload);
+            }
+        }
+        due.clear();
+    }
+
+    private Level<K, T> level(int index) {
+        while (levels.size() <= index) {
+            Level<K, T> highest = levels.get(levels.size() - 1);
+            levels.add(new Level<>(Math.multiplyExact(highest.tickMillis, wheelSize), wheelSize));
+        }
+        return levels.get(index);
+    }
+
+    private static final class Level<K, T> {
+
+        private final long tickMillis;
+
+        private final long spanMillis;
+
+        private final List<List<Timer<K, T>>> buckets;
+
+        private Level(long tickMillis, int wheelSize) {
+            this.tickMillis = tickMillis;
+            this.spanMillis = Math.multiplyExact(tickMillis, wheelSize);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+
+        private List<Timer<K, T>> bucketFor(long timeMillis) {
+            return buckets.get((int) ((timeMillis / tickMillis) % buckets.size()));
+        }
+    }
+
+    private static final class Timer<K, T> {
+
+        private final K key;
+
+        private final T payload;
+
+        private final long deadline;
+
+        private boolean cancelled;
+
+        private Timer(K key, T payload, long deadline) {
+            this.key = key;
+            this.payload = payload;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.eventapi.reminder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps delivered reminders in memory, for tests and local development.
+ */
+public class InMemoryReminderSink implements ReminderSink {
+
+    private final List<Reminder> delivered = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void deliver(Reminder reminder) {
+        delivered.add(reminder);
+    }
+
+    public List<Reminder> getDelivered() {
+        return List.copyOf(delivered);
+    }
+
+    public void clear() {
+        delivered.clear();
+    }
+}
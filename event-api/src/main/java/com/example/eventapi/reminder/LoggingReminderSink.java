@@ -0,0 +1,15 @@
+package com.example.eventapi.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void deliver(Reminder reminder) {
+        LOGGER.info("Reminder for event with id: {} '{}' starting at {}",
+                reminder.getEventId(), reminder.getTitle(), reminder.getStartTime());
+    }
+}
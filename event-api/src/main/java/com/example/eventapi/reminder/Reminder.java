@@ -0,0 +1,13 @@
+package com.example.eventapi.reminder;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class Reminder {
+    Long eventId;
+    String title;
+    Instant startTime;
+    Instant remindAt;
+}
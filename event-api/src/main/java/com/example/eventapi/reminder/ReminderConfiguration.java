@@ -0,0 +1,17 @@
+package com.example.eventapi.reminder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ReminderProperties.class)
+public class ReminderConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(ReminderSink.class)
+    public ReminderSink reminderSink() {
+        return new LoggingReminderSink();
+    }
+}
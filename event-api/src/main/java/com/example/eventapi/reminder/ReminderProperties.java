@@ -0,0 +1,27 @@
+package com.example.eventapi.reminder;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "reminders")
+public class ReminderProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Resolution of the timing wheel; reminders fire within one tick of their due time.
+     */
+    private Duration tick = Duration.ofSeconds(1);
+
+    private int wheelSize = 64;
+
+    /**
+     * How far ahead due reminders are loaded into memory. Must be longer than the refill interval.
+     */
+    private Duration horizon = Duration.ofHours(1);
+
+    private Duration refillInterval = Duration.ofMinutes(15);
+}
@@ -0,0 +1,123 @@
+package com.example.eventapi.reminder;
+
+import com.example.eventapi.dto.EventRequest;
+import com.example.eventapi.dto.ReminderCandidate;
+import com.example.eventapi.model.Event;
+import com.example.eventapi.repository.EventRepository;
+import com.example.eventapi.service.EventChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Keeps the reminders due within the next {@code reminders.horizon} in a {@link HierarchicalTimingWheel}.
+ * The wheel is refilled from an indexed {@code start_time} range query and kept up to date from
+ * {@link EventChange} notifications, so the event table is never polled for due reminders.
+ */
+@Component
+public class ReminderScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReminderScheduler.class);
+
+    private static final Duration MAX_REMINDER_LEAD = Duration.ofMinutes(EventRequest.MAX_REMINDER_MINUTES);
+
+    private final EventRepository eventRepository;
+
+    private final ReminderSink reminderSink;
+
+    private final ReminderProperties properties;
+
+    private final Clock clock;
+
+    private final HierarchicalTimingWheel<Long, Reminder> wheel;
+
+    private Instant loadedUntil;
+
+    public ReminderScheduler(EventRepository eventRepository,
+                             ReminderSink reminderSink,
+                             ReminderProperties properties,
+                             Clock clock) {
+        if (properties.getRefillInterval().compareTo(properties.getHorizon()) >= 0) {
+            throw new IllegalArgumentException("Reminder refill interval must be shorter than the horizon");
+        }
+        this.eventRepository = eventRepository;
+        this.reminderSink = reminderSink;
+        this.properties = properties;
+        this.clock = clock;
+        Instant now = clock.instant();
+        this.wheel = new HierarchicalTimingWheel<>(properties.getTick().toMillis(), properties.getWheelSize(), now.toEpochMilli());
+        this.loadedUntil = now;
+    }
+
+    @Scheduled(fixedRateString = "${reminders.tick:PT1S}")
+    public void tick() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (Reminder reminder : wheel.advance(clock.instant().toEpochMilli())) {
+            try {
+                reminderSink.deliver(reminder);
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to deliver reminder for event with id: {}", reminder.getEventId(), e);
+            }
+        }
+    }
+
+    /**
+     * Loads reminders due between the end of the previously loaded window and {@code now + horizon}.
+     * A reminder fires at most {@link EventRequest#MAX_REMINDER_MINUTES} before start, which bounds the
+     * {@code start_time} range that has to be read.
+     */
+    @Scheduled(fixedDelayString = "${reminders.refill-interval:PT15M}")
+    public synchronized void refill() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Instant until = clock.instant().plus(properties.getHorizon());
+        if (!until.isAfter(loadedUntil)) {
+            return;
+        }
+
+        List<ReminderCandidate> candidates = eventRepository.findReminderCandidates(loadedUntil, until.plus(MAX_REMINDER_LEAD));
+        int scheduled = 0;
+        for (ReminderCandidate candidate : candidates) {
+            Instant remindAt = candidate.getStartTime().minus(Duration.ofMinutes(candidate.getReminderMinutes()));
+            if (!remindAt.isBefore(loadedUntil) && remindAt.isBefore(until)) {
+                schedule(new Reminder(candidate.getId(), candidate.getTitle(), candidate.getStartTime(), remindAt));
+                scheduled++;
+            }
+        }
+        LOGGER.debug("Loaded {} reminders due before {}", scheduled, until);
+        loadedUntil = until;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEventChange(EventChange change) {
+        wheel.cancel(change.getEventId());
+
+        Event event = change.getCurrent();
+        if (event == null || event.getReminderMinutes() == null) {
+            return;
+        }
+        Instant remindAt = event.getStartTime().minus(Duration.ofMinutes(event.getReminderMinutes()));
+        // Reminders beyond the loaded window are picked up by a later refill
+        if (!remindAt.isBefore(clock.instant()) && remindAt.isBefore(loadedUntil)) {
+            schedule(new Reminder(event.getId(), event.getTitle(), event.getStartTime(), remindAt));
+        }
+    }
+
+    public int getScheduledCount() {
+        return wheel.size();
+    }
+
+    private void schedule(Reminder reminder) {
+        wheel.schedule(reminder.getEventId(), reminder, reminder.getRemindAt().toEpochMilli());
+    }
+}
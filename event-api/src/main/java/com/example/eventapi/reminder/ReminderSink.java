@@ -0,0 +1,10 @@
+package com.example.eventapi.reminder;
+
+/**
+ * Destination for due reminders. Implementations are called from the scheduler thread and should not block
+ * for long; failures are logged and do not affect other reminders.
+ */
+public interface ReminderSink {
+
+    void deliver(Reminder reminder);
+}
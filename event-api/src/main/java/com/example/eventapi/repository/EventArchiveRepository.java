@@ -0,0 +1,33 @@
+package com.example.eventapi.repository;
+
+import com.example.eventapi.model.ArchivedEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EventArchiveRepository extends JpaRepository<ArchivedEvent, Long>, EventArchiveRepositoryCustom {
+
+    @Query("select a from ArchivedEvent a where a.startTime < :to and a.endTime > :from order by a.startTime")
+    List<ArchivedEvent> findOverlapping(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("select max(a.endTime) from ArchivedEvent a")
+    Instant findMaxEndTime();
+
+    // Only event_archive is written, so Hibernate does not need to invalidate the cached event regions
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_archive"))
+    @Query(value = "insert into event_archive (id, title, description, start_time, end_time, location, color, reminder_minutes) " +
+            "select id, title, description, start_time, end_time, location, color, reminder_minutes from event " +
+            "where id in (:ids) and end_time < :cutoff", nativeQuery = true)
+    int copyFromEvents(@Param("ids") Collection<Long> ids, @Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,16 @@
+package com.example.eventapi.repository;
+
+import com.example.eventapi.dto.EventField;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface EventArchiveRepositoryCustom {
+
+    /**
+     * {@link EventArchiveRepository#findOverlapping} selecting only the requested columns, as scalar tuples.
+     */
+    List<Map<String, Object>> findOverlappingWithFields(Instant from, Instant to, Set<EventField> fields);
+}
@@ -0,0 +1,22 @@
+package com.example.eventapi.repository;
+
+import com.example.eventapi.dto.EventField;
+import com.example.eventapi.model.ArchivedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class EventArchiveRepositoryCustomImpl implements EventArchiveRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findOverlappingWithFields(Instant from, Instant to, Set<EventField> fields) {
+        return FieldSelection.selectOverlapping(entityManager, ArchivedEvent.class, from, to, fields);
+    }
+}
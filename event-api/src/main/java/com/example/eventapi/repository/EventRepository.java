@@ -1,9 +1,68 @@
 package com.example.eventapi.repository;
 
+import com.example.eventapi.dto.ArchiveCandidate;
+import com.example.eventapi.dto.LocationCount;
+import com.example.eventapi.dto.ReminderCandidate;
 import com.example.eventapi.model.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom {
+
+    @Query("select e.id as id, e.title as title, e.startTime as startTime, e.reminderMinutes as reminderMinutes " +
+            "from Event e where e.startTime >= :from and e.startTime < :to and e.reminderMinutes is not null")
+    List<ReminderCandidate> findReminderCandidates(@Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Cacheable, unlike {@link #findAll()}: a window only returns the events of a few days, so a cached id list
+     * is resolved from the entity region with a bounded number of lookups.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select e from Event e where e.startTime < :to and e.endTime > :from order by e.startTime")
+    List<Event> findOverlapping(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("select e.id as id, e.endTime as endTime from Event e where e.endTime < :cutoff " +
+            "and (e.endTime > :afterEndTime or (e.endTime = :afterEndTime and e.id > :afterId)) " +
+            "order by e.endTime, e.id")
+    List<ArchiveCandidate> findArchiveCandidates(@Param("cutoff") Instant cutoff,
+                                                 @Param("afterEndTime") Instant afterEndTime,
+                                                 @Param("afterId") Long afterId,
+                                                 Limit limit);
+
+    @Query("select e from Event e where e.location = :location and e.startTime < :end and e.endTime > :start " +
+            "and (:excludeId is null or e.id <> :excludeId) order by e.startTime")
+    List<Event> findConflicts(@Param("location") String location,
+                              @Param("start") Instant start,
+                              @Param("end") Instant end,
+                              @Param("excludeId") Long excludeId,
+                              Limit limit);
+
+    /**
+     * Takes an exclusive row lock on {@code resource}, held until the surrounding transaction ends.
+     * Only resource_lock is written, so Hibernate does not need to invalidate the cached event regions.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "resource_lock"))
+    @Query(value = "insert into resource_lock (resource) values (:resource) on duplicate key update resource = resource",
+            nativeQuery = true)
+    int lockResource(@Param("resource") String resource);
+
+    @Query("select e.location as location, count(e) as count from Event e where e.location is not null group by e.location")
+    List<LocationCount> countByLocation();
+
+    @Modifying
+    @Query("delete from Event e where e.id in :ids and e.endTime < :cutoff")
+    int deleteArchived(@Param("ids") Collection<Long> ids, @Param("cutoff") Instant cutoff);
 }
@@ -0,0 +1,22 @@
+package com.example.eventapi.repository;
+
+import com.example.eventapi.dto.EventField;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface EventRepositoryCustom {
+
+    /**
+     * Selects only the requested columns of every event. Rows are returned as scalar tuples,
+     * so no managed {@link com.example.eventapi.model.Event} instances are hydrated.
+     */
+    List<Map<String, Object>> findAllWithFields(Set<EventField> fields);
+
+    /**
+     * {@link EventRepository#findOverlapping} selecting only the requested columns, as scalar tuples.
+     */
+    List<Map<String, Object>> findOverlappingWithFields(Instant from, Instant to, Set<EventField> fields);
+}
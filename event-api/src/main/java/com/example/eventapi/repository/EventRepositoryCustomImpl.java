@@ -0,0 +1,27 @@
+package com.example.eventapi.repository;
+
+import com.example.eventapi.dto.EventField;
+import com.example.eventapi.model.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllWithFields(Set<EventField> fields) {
+        return FieldSelection.selectAll(entityManager, Event.class, fields);
+    }
+
+    @Override
+    public List<Map<String, Object>> findOverlappingWithFields(Instant from, Instant to, Set<EventField> fields) {
+        return FieldSelection.selectOverlapping(entityManager, Event.class, from, to, fields);
+    }
+}
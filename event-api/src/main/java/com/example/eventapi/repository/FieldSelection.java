@@ -0,0 +1,69 @@
+package com.example.eventapi.repository;
+
+import com.example.eventapi.dto.EventField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Scalar criteria queries behind the {@code fields} reads. {@code event} and {@code event_archive} entities share
+ * attribute names, so the same selection works for both.
+ */
+final class FieldSelection {
+
+    private FieldSelection() {
+    }
+
+    static List<Map<String, Object>> selectAll(EntityManager entityManager, Class<?> entityClass, Set<EventField> fields) {
+        CriteriaQuery<Tuple> query = entityManager.getCriteriaBuilder().createTupleQuery();
+        Root<?> root = query.from(entityClass);
+        query.multiselect(selections(root, fields));
+        return rows(entityManager.createQuery(query).getResultList(), fields);
+    }
+
+    /**
+     * Same window and order as the {@code findOverlapping} queries: {@code startTime < to and endTime > from},
+     * by start time.
+     */
+    static List<Map<String, Object>> selectOverlapping(EntityManager entityManager, Class<?> entityClass,
+                                                       Instant from, Instant to, Set<EventField> fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<?> root = query.from(entityClass);
+        query.multiselect(selections(root, fields))
+                .where(criteriaBuilder.lessThan(root.<Instant>get(EventField.START_TIME.getAttribute()), to),
+                        criteriaBuilder.greaterThan(root.<Instant>get(EventField.END_TIME.getAttribute()), from))
+                .orderBy(criteriaBuilder.asc(root.get(EventField.START_TIME.getAttribute())));
+        return rows(entityManager.createQuery(query).getResultList(), fields);
+    }
+
+    private static List<Selection<?>> selections(Root<?> root, Set<EventField> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (EventField field : fields) {
+            selections.add(root.get(field.getAttribute()).alias(field.getAttribute()));
+        }
+        return selections;
+    }
+
+    private static List<Map<String, Object>> rows(List<Tuple> tuples, Set<EventField> fields) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (EventField field : fields) {
+                row.put(field.getAttribute(), tuple.get(field.getAttribute()));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
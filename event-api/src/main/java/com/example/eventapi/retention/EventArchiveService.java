@@ -0,0 +1,112 @@
+package com.example.eventapi.retention;
+
+import com.example.eventapi.dto.EventField;
+import com.example.eventapi.model.ArchivedEvent;
+import com.example.eventapi.model.Event;
+import com.example.eventapi.repository.EventArchiveRepository;
+import com.example.eventapi.repository.EventRepository;
+import com.example.eventapi.service.EventChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class EventArchiveService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventArchiveService.class);
+
+    private final EventArchiveRepository eventArchiveRepository;
+
+    private final EventRepository eventRepository;
+
+    private final RetentionProperties properties;
+
+    private final Clock clock;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Instant archivedUntil;
+
+    private volatile boolean archivedUntilLoaded;
+
+    public EventArchiveService(EventArchiveRepository eventArchiveRepository,
+                               EventRepository eventRepository,
+                               RetentionProperties properties,
+                               Clock clock,
+                               ApplicationEventPublisher eventPublisher) {
+        this.eventArchiveRepository = eventArchiveRepository;
+        this.eventRepository = eventRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Moves the given events to the archive, provided they still ended before {@code cutoff}.
+     * Copy and delete run in one short transaction, so an event is always in exactly one of the tables.
+     * An {@link EventChange#archived} is published for every moved event, delivered after commit, so in-memory
+     * views of the event table drop it like a deleted event.
+     */
+    @Transactional
+    public int archiveBatch(List<Long> ids, Instant cutoff) {
+        int copied = eventArchiveRepository.copyFromEvents(ids, cutoff);
+        int deleted = eventRepository.deleteArchived(ids, cutoff);
+        if (copied != deleted) {
+            throw new IllegalStateException(String.format("Archived %s events but deleted %s", copied, deleted));
+        }
+        if (deleted > 0) {
+            // Ids that were not moved, e.g. because the event was changed meanwhile, are not in the archive
+            for (ArchivedEvent archived : eventArchiveRepository.findAllById(ids)) {
+                eventPublisher.publishEvent(EventChange.archived(archived.toEvent()));
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Whether a read window starting at {@code from} may overlap archived events. Every archived event ended
+     * before both the current retention cutoff and the latest archived end time seen by this instance.
+     */
+    public boolean covers(Instant from) {
+        Instant cutoff = clock.instant().minus(properties.getMaxAge());
+        Instant until = getArchivedUntil();
+        return from.isBefore(cutoff) || (until != null && from.isBefore(until));
+    }
+
+    public List<Event> findOverlapping(Instant from, Instant to) {
+        LOGGER.debug("Reading archived events between {} and {}", from, to);
+        return eventArchiveRepository.findOverlapping(from, to).stream()
+                .map(ArchivedEvent::toEvent)
+                .toList();
+    }
+
+    public List<Map<String, Object>> findOverlapping(Instant from, Instant to, Set<EventField> fields) {
+        LOGGER.debug("Reading fields {} of archived events between {} and {}", fields, from, to);
+        return eventArchiveRepository.findOverlappingWithFields(from, to, fields);
+    }
+
+    public Optional<Event> findById(Long id) {
+        return eventArchiveRepository.findById(id).map(ArchivedEvent::toEvent);
+    }
+
+    public void refreshArchivedUntil() {
+        archivedUntil = eventArchiveRepository.findMaxEndTime();
+        archivedUntilLoaded = true;
+    }
+
+    private Instant getArchivedUntil() {
+        if (!archivedUntilLoaded) {
+            refreshArchivedUntil();
+        }
+        return archivedUntil;
+    }
+}
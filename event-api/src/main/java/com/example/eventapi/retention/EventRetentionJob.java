@@ -0,0 +1,122 @@
+package com.example.eventapi.retention;
+
+import com.example.eventapi.dto.ArchiveCandidate;
+import com.example.eventapi.repository.EventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Moves events that ended before {@code now - retention.max-age} from {@code event} to {@code event_archive}.
+ * Candidates are read with a keyset on {@code (end_time, id)} and moved in small transactions, so the
+ * job never scans from the start of the table again and never holds locks for long.
+ */
+@Component
+public class EventRetentionJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventRetentionJob.class);
+
+    private final EventRepository eventRepository;
+
+    private final EventArchiveService eventArchiveService;
+
+    private final RetentionProperties properties;
+
+    private final Clock clock;
+
+    private final Counter archivedCounter;
+
+    private final Timer batchTimer;
+
+    private final AtomicReference<RetentionProgress> progress = new AtomicReference<>(RetentionProgress.idle());
+
+    public EventRetentionJob(EventRepository eventRepository,
+                             EventArchiveService eventArchiveService,
+                             RetentionProperties properties,
+                             Clock clock,
+                             MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.eventArchiveService = eventArchiveService;
+        this.properties = properties;
+        this.clock = clock;
+        this.archivedCounter = Counter.builder("events.retention.archived")
+                .description("Events moved to the archive table")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("events.retention.batch")
+                .description("Time spent moving one batch of events to the archive table")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${retention.initial-delay:PT1M}", fixedDelayString = "${retention.interval:PT1H}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Instant startedAt = clock.instant();
+        Instant cutoff = startedAt.minus(properties.getMaxAge());
+        long archivedTotal = progress.get().getArchivedTotal();
+        long archived = 0;
+        LOGGER.info("Archiving events that ended before {}", cutoff);
+
+        Instant afterEndTime = Instant.EPOCH;
+        Long afterId = 0L;
+        List<ArchiveCandidate> batch;
+        do {
+            batch = eventRepository.findArchiveCandidates(cutoff, afterEndTime, afterId, Limit.of(properties.getBatchSize()));
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Long> ids = batch.stream().map(ArchiveCandidate::getId).toList();
+            long batchStartedAt = System.nanoTime();
+            int moved = eventArchiveService.archiveBatch(ids, cutoff);
+            batchTimer.record(System.nanoTime() - batchStartedAt, TimeUnit.NANOSECONDS);
+            archivedCounter.increment(moved);
+            archived += moved;
+
+            ArchiveCandidate last = batch.get(batch.size() - 1);
+            afterEndTime = last.getEndTime();
+            afterId = last.getId();
+            progress.set(new RetentionProgress(true, cutoff, startedAt, null, archived, archivedTotal + archived,
+                    throughput(archived, startedAt, clock.instant())));
+        } while (batch.size() == properties.getBatchSize() && pause());
+
+        eventArchiveService.refreshArchivedUntil();
+        Instant finishedAt = clock.instant();
+        progress.set(new RetentionProgress(false, cutoff, startedAt, finishedAt, archived, archivedTotal + archived,
+                throughput(archived, startedAt, finishedAt)));
+        LOGGER.info("Archived {} events in {}", archived, Duration.between(startedAt, finishedAt));
+    }
+
+    public RetentionProgress getProgress() {
+        return progress.get();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getBatchPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Retention run interrupted, remaining events are archived on the next run");
+            return false;
+        }
+    }
+
+    private static double throughput(long archived, Instant from, Instant to) {
+        long millis = Duration.between(from, to).toMillis();
+        return millis == 0 ? 0 : archived * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.eventapi.retention;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the progress of the retention job at {@code /actuator/retention}.
+ */
+@Component
+@Endpoint(id = "retention")
+public class RetentionEndpoint {
+
+    private final EventRetentionJob eventRetentionJob;
+
+    public RetentionEndpoint(EventRetentionJob eventRetentionJob) {
+        this.eventRetentionJob = eventRetentionJob;
+    }
+
+    @ReadOperation
+    public RetentionProgress progress() {
+        return eventRetentionJob.getProgress();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.eventapi.retention;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class RetentionProgress {
+    boolean running;
+    Instant cutoff;
+    Instant lastRunStartedAt;
+    Instant lastRunFinishedAt;
+    long archivedInLastRun;
+    long archivedTotal;
+    double eventsPerSecond;
+
+    public static RetentionProgress idle() {
+        return new RetentionProgress(false, null, null, null, 0, 0, 0);
+    }
+}
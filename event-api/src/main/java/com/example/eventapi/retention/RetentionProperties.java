@@ -0,0 +1,28 @@
+package com.example.eventapi.retention;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "retention")
+public class RetentionProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Events that ended longer ago than this are moved to {@code event_archive}.
+     */
+    private Duration maxAge = Duration.ofDays(365);
+
+    /**
+     * Rows moved per transaction. Small batches keep row locks short.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Pause between batches, so the job yields to regular traffic.
+     */
+    private Duration batchPause = Duration.ofMillis(100);
+}
@@ -0,0 +1,42 @@
+package com.example.eventapi.service;
+
+import com.example.eventapi.model.Event;
+import lombok.Value;
+
+/**
+ * Published by {@link EventService} after an event has been created, updated or deleted, and by
+ * {@code EventArchiveService} for every event moved to the archive, which leaves the event table like a deletion.
+ * {@code previous} is a detached copy of the state before the change (null for creations),
+ * {@code current} the state after it (null for deletions).
+ */
+@Value
+public class EventChange {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        ARCHIVED
+    }
+
+    Type type;
+    Long eventId;
+    Event previous;
+    Event current;
+
+    public static EventChange created(Event current) {
+        return new EventChange(Type.CREATED, current.getId(), null, current);
+    }
+
+    public static EventChange updated(Event previous, Event current) {
+        return new EventChange(Type.UPDATED, current.getId(), previous, current);
+    }
+
+    public static EventChange deleted(Event previous) {
+        return new EventChange(Type.DELETED, previous.getId(), previous, null);
+    }
+
+    public static EventChange archived(Event previous) {
+        return new EventChange(Type.ARCHIVED, previous.getId(), previous, null);
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.eventapi.service;
 
 import com.example.eventapi.dto.EventRequest;
+import com.example.eventapi.validation.EventValidationCode;
+import com.example.eventapi.validation.EventValidationException;
+import com.example.eventapi.validation.ValidationResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -8,48 +11,100 @@ import org.springframework.stereotype.Component;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
+import static com.example.eventapi.validation.EventValidationCode.*;
+
+/**
+ * Checks an {@link EventRequest} against every {@link EventValidationCode}, including the rules also declared as
+ * bean validation constraints, so requests that did not go through {@code @Valid} (e.g. items of a batch) are
+ * covered too. {@link #check} only sets bits and returns one of the shared {@link ValidationResult}s.
+ */
 @Component
 public class EventRequestValidator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EventRequestValidator.class);
-    private static final Pattern HEX_COLOR_PATTERN = Pattern.compile("^#[0-9A-Fa-f]{6}$");
 
+    /**
+     * Throws a stackless {@link EventValidationException} if the request is invalid.
+     */
     public void validate(EventRequest request) {
-        List<String> errors = new ArrayList<>();
+        ValidationResult result = check(request);
+        if (!result.isValid()) {
+            throw new EventValidationException(result);
+        }
+    }
 
+    public ValidationResult check(EventRequest request) {
         LOGGER.debug("Validating event request {}", request);
+        int violations = 0;
 
-        if (isStartDateAndPastDateSame(request)) {
-            errors.add("Start date and past data cannot be the same");
+        String title = request.getTitle();
+        if (title == null) {
+            violations |= TITLE_REQUIRED.bit();
+        } else if (title.isEmpty()) {
+            violations |= TITLE_EMPTY.bit();
         }
 
-        if (isEndBeforeStart(request)) {
-            errors.add("End time must be after start time");
+        Instant startTime = request.getStartTime();
+        Instant endTime = request.getEndTime();
+        if (startTime == null) {
+            violations |= START_TIME_REQUIRED.bit();
         }
-
-        if (isInvalidColor(request)) {
-            errors.add("Color must be a valid hex color code (e.g., #6f42c1)");
+        if (endTime == null) {
+            violations |= END_TIME_REQUIRED.bit();
         }
-
-        if (!errors.isEmpty()) {
-            throw new IllegalArgumentException(String.join("; ", errors));
+        if (startTime != null && endTime != null) {
+            int order = endTime.compareTo(startTime);
+            if (order == 0) {
+                violations |= END_EQUALS_START.bit();
+            } else if (order < 0) {
+                violations |= END_BEFORE_START.bit();
+            }
         }
 
-        LOGGER.debug("Event Request is valid!");
-    }
+        if (isInvalidColor(request.getColor())) {
+            violations |= INVALID_COLOR.bit();
+        }
 
-    private boolean isStartDateAndPastDateSame(EventRequest request) {
-        return request.getStartTime().equals(request.getEndTime());
+        Integer reminderMinutes = request.getReminderMinutes();
+        if (reminderMinutes != null) {
+            if (reminderMinutes < 0) {
+                violations |= REMINDER_NEGATIVE.bit();
+            } else if (reminderMinutes > EventRequest.MAX_REMINDER_MINUTES) {
+                violations |= REMINDER_TOO_EARLY.bit();
+            }
+        }
+        return ValidationResult.of(violations);
     }
 
-    private boolean isEndBeforeStart(EventRequest request) {
-        return request.getEndTime().isBefore(request.getStartTime());
+    /**
+     * Checks every request of a batch, returning one result per item in the same order. Valid items share
+     * {@link ValidationResult#VALID}.
+     */
+    public List<ValidationResult> checkAll(List<? extends EventRequest> requests) {
+        List<ValidationResult> results = new ArrayList<>(requests.size());
+        for (EventRequest request : requests) {
+            results.add(check(request));
+        }
+        return results;
     }
 
-    private boolean isInvalidColor(EventRequest request) {
-        String color = request.getColor();
-        return color != null && !color.isEmpty() && !HEX_COLOR_PATTERN.matcher(color).matches();
+    /**
+     * Same rule as {@code ^#[0-9A-Fa-f]{6}$}, without creating a {@code Matcher} per call.
+     */
+    private static boolean isInvalidColor(String color) {
+        if (color == null || color.isEmpty()) {
+            return false;
+        }
+        if (color.length() != 7 || color.charAt(0) != '#') {
+            return true;
+        }
+        for (int i = 1; i < 7; i++) {
+            char c = color.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F')) {
+                return true;
+            }
+        }
+        return false;
     }
 }
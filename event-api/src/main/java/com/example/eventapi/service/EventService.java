@@ -1,63 +1,220 @@
 package com.example.eventapi.service;
 
+import com.example.eventapi.booking.BookingGuard;
+import com.example.eventapi.coalescing.ReadCoalescer;
+import com.example.eventapi.dto.EventField;
+import com.example.eventapi.dto.EventHistoryEntry;
+import com.example.eventapi.dto.EventHistoryPage;
+import com.example.eventapi.dto.LocationSuggestion;
+import com.example.eventapi.history.EventHistoryProperties;
+import com.example.eventapi.history.EventHistoryQueries;
+import com.example.eventapi.location.LocationIndex;
+import com.example.eventapi.location.LocationIndexProperties;
 import com.example.eventapi.model.Event;
 import com.example.eventapi.repository.EventRepository;
+import com.example.eventapi.retention.EventArchiveService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class EventService {
 
     private final EventRepository eventRepository;
 
+    private final EventArchiveService eventArchiveService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ReadCoalescer readCoalescer;
+
+    private final LocationIndex locationIndex;
+
+    private final LocationIndexProperties locationIndexProperties;
+
+    private final BookingGuard bookingGuard;
+
+    private final EventHistoryQueries eventHistoryQueries;
+
+    private final EventHistoryProperties eventHistoryProperties;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(EventService.class);
 
-    public EventService(EventRepository eventRepository) {
+    public EventService(EventRepository eventRepository,
+                        EventArchiveService eventArchiveService,
+                        ApplicationEventPublisher eventPublisher,
+                        ReadCoalescer readCoalescer,
+                        LocationIndex locationIndex,
+                        LocationIndexProperties locationIndexProperties,
+                        BookingGuard bookingGuard,
+                        EventHistoryQueries eventHistoryQueries,
+                        EventHistoryProperties eventHistoryProperties) {
         this.eventRepository = eventRepository;
+        this.eventArchiveService = eventArchiveService;
+        this.eventPublisher = eventPublisher;
+        this.readCoalescer = readCoalescer;
+        this.locationIndex = locationIndex;
+        this.locationIndexProperties = locationIndexProperties;
+        this.bookingGuard = bookingGuard;
+        this.eventHistoryQueries = eventHistoryQueries;
+        this.eventHistoryProperties = eventHistoryProperties;
     }
 
+    /**
+     * Writes that may run a booking check use read committed, so the overlap probe after the resource lock sees
+     * events committed by the previous lock holder rather than an older repeatable-read snapshot.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Event saveEvent(Event event) {
         LOGGER.info("Saving event: {}", event);
+        bookingGuard.check(event, null);
         event = eventRepository.save(event);
         LOGGER.info("Successfully saved an event: {}", event);
+        eventPublisher.publishEvent(EventChange.created(event.copy()));
         return event;
     }
 
+    /**
+     * Identical concurrent list reads share one query through {@link ReadCoalescer}, which also opens the
+     * read-only transaction, so callers waiting for a shared result do not hold a connection.
+     */
     public List<Event> getAllEvents() {
         LOGGER.info("Getting all events");
-        return eventRepository.findAll();
+        return readCoalescer.read(List.of("all"), eventRepository::findAll);
+    }
+
+    public List<Map<String, Object>> getAllEvents(Set<EventField> fields) {
+        LOGGER.info("Getting all events with fields: {}", fields);
+        return readCoalescer.read(List.of("fields", fields), () -> eventRepository.findAllWithFields(fields));
+    }
+
+    /**
+     * Returns the events overlapping {@code [from, to)}, including archived events when the window reaches
+     * back past the retention cutoff.
+     */
+    public List<Event> getEventsBetween(Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        LOGGER.info("Getting events between {} and {}", from, to);
+        return readCoalescer.read(List.of("between", from, to), () -> findEventsBetween(from, to));
+    }
+
+    /**
+     * Same window as {@link #getEventsBetween(Instant, Instant)}, selecting only the requested columns.
+     */
+    public List<Map<String, Object>> getEventsBetween(Instant from, Instant to, Set<EventField> fields) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        LOGGER.info("Getting events between {} and {} with fields: {}", from, to, fields);
+        return readCoalescer.read(List.of("between", from, to, fields), () -> findEventsBetween(from, to, fields));
     }
 
+    private List<Event> findEventsBetween(Instant from, Instant to) {
+        List<Event> events = eventRepository.findOverlapping(from, to);
+        if (!eventArchiveService.covers(from)) {
+            return events;
+        }
+        List<Event> merged = new ArrayList<>(events);
+        merged.addAll(eventArchiveService.findOverlapping(from, to));
+        merged.sort(Comparator.comparing(Event::getStartTime));
+        return merged;
+    }
+
+    private List<Map<String, Object>> findEventsBetween(Instant from, Instant to, Set<EventField> fields) {
+        if (!eventArchiveService.covers(from)) {
+            return eventRepository.findOverlappingWithFields(from, to, fields);
+        }
+        // Rows of both tables are merged by start time, so it is selected even when not requested
+        Set<EventField> selected = EnumSet.copyOf(fields);
+        selected.add(EventField.START_TIME);
+        List<Map<String, Object>> merged = new ArrayList<>(eventRepository.findOverlappingWithFields(from, to, selected));
+        merged.addAll(eventArchiveService.findOverlapping(from, to, selected));
+        merged.sort(Comparator.comparing(row -> (Instant) row.get(EventField.START_TIME.getAttribute())));
+        if (!fields.contains(EventField.START_TIME)) {
+            merged.forEach(row -> row.remove(EventField.START_TIME.getAttribute()));
+        }
+        return merged;
+    }
+
+    @Transactional(readOnly = true)
     public Event getEventById(Long id) {
         LOGGER.info("Getting event by id: {}", id);
-        Optional<Event> optionalEvent = eventRepository.findById(id);
+        Optional<Event> optionalEvent = eventRepository.findById(id).or(() -> eventArchiveService.findById(id));
         Event event = optionalEvent.orElseThrow(() -> new NoSuchElementException(String.format("Event with id: %s does not exist", id)));
         LOGGER.info("Successfully retrieved event by id: {}", event);
         return event;
     }
 
+    /**
+     * Served from {@link LocationIndex}, so it is cheap enough to call on every keystroke.
+     */
+    public List<LocationSuggestion> suggestLocations(String prefix, Integer limit) {
+        int max = locationIndexProperties.getMaxLimit();
+        int effectiveLimit = limit == null ? locationIndexProperties.getDefaultLimit() : limit;
+        if (effectiveLimit < 1 || effectiveLimit > max) {
+            throw new IllegalArgumentException(String.format("limit must be between 1 and %d", max));
+        }
+        return locationIndex.suggest(prefix == null ? "" : prefix, effectiveLimit);
+    }
+
+    /**
+     * Returns the recorded changes of an event, newest first, also after it was deleted. History is written
+     * asynchronously, so a change made a moment ago may not be listed yet.
+     */
+    public EventHistoryPage getEventHistory(Long id, Long before, Integer limit) {
+        int max = eventHistoryProperties.getMaxLimit();
+        int effectiveLimit = limit == null ? eventHistoryProperties.getDefaultLimit() : limit;
+        if (effectiveLimit < 1 || effectiveLimit > max) {
+            throw new IllegalArgumentException(String.format("limit must be between 1 and %d", max));
+        }
+        LOGGER.info("Getting history of event with id: {} before: {}", id, before);
+        // One extra row tells whether there is a next page
+        List<EventHistoryEntry> entries = eventHistoryQueries.findPage(id, before, effectiveLimit + 1);
+        if (entries.size() <= effectiveLimit) {
+            return new EventHistoryPage(entries, null);
+        }
+        List<EventHistoryEntry> page = entries.subList(0, effectiveLimit);
+        return new EventHistoryPage(List.copyOf(page), page.get(effectiveLimit - 1).getId());
+    }
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public void updateEvent(Long id, Event newEvent) {
         Event existing = eventRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException(String.format("Event with id: %s does not exist ", id)));
 
         LOGGER.info("Updating event with id: {}", id);
+        bookingGuard.check(newEvent, id);
 
+        Event previous = existing.copy();
         existing.setTitle(newEvent.getTitle());
         existing.setDescription(newEvent.getDescription());
         existing.setStartTime(newEvent.getStartTime());
         existing.setEndTime(newEvent.getEndTime());
         existing.setLocation(newEvent.getLocation());
         existing.setColor(newEvent.getColor());
+        existing.setReminderMinutes(newEvent.getReminderMinutes());
 
         eventRepository.save(existing);
         LOGGER.info("Event with id: {} updated", id);
+        eventPublisher.publishEvent(EventChange.updated(previous, existing.copy()));
     }
 
+    @Transactional
     public void deleteEvent(Long id) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException(String.format("Event with id: %s does not exist", id)));
@@ -65,5 +222,6 @@ public class EventService {
         LOGGER.info("Deleting event with id: {}", id);
         eventRepository.delete(event);
         LOGGER.info("Deleted event with id: {}", id);
+        eventPublisher.publishEvent(EventChange.deleted(event.copy()));
     }
 }
@@ -0,0 +1,246 @@
+package com.example.eventapi.snapshot;
+
+import com.example.eventapi.model.Event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar read model of the {@code event} table: one primitive array per column, rows sorted by id.
+ * Times are epoch milliseconds, colors are packed {@code 0xRRGGBB} ints and locations are codes into a
+ * shared dictionary, so a row costs 32 bytes instead of an {@link Event} with its strings and instants.
+ * Titles and descriptions are not kept.
+ * <p>
+ * Not thread safe; {@link EventReadModel} guards access.
+ */
+public class EventColumns {
+
+    public static final int NONE = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] ids;
+
+    private long[] startMillis;
+
+    private long[] endMillis;
+
+    private int[] colors;
+
+    private int[] locationCodes;
+
+    private int size;
+
+    private final List<String> dictionary;
+
+    private final Map<String, Integer> codes;
+
+    public EventColumns() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public EventColumns(int capacity) {
+        int initial = Math.max(capacity, INITIAL_CAPACITY);
+        this.ids = new long[initial];
+        this.startMillis = new long[initial];
+        this.endMillis = new long[initial];
+        this.colors = new int[initial];
+        this.locationCodes = new int[initial];
+        this.dictionary = new ArrayList<>();
+        this.codes = new HashMap<>();
+    }
+
+    /**
+     * Wraps columns read from a snapshot. Rows must be sorted by id and codes must index {@code dictionary}.
+     */
+    static EventColumns of(long[] ids, long[] startMillis, long[] endMillis, int[] colors, int[] locationCodes,
+                           List<String> dictionary) {
+        EventColumns columns = new EventColumns(0);
+        columns.ids = ids;
+        columns.startMillis = startMillis;
+        columns.endMillis = endMillis;
+        columns.colors = colors;
+        columns.locationCodes = locationCodes;
+        columns.size = ids.length;
+        for (String location : dictionary) {
+            columns.encode(location);
+        }
+        return columns;
+    }
+
+    public void upsert(Event event) {
+        upsert(event.getId(), event.getStartTime().toEpochMilli(), event.getEndTime().toEpochMilli(),
+                packColor(event.getColor()), event.getLocation());
+    }
+
+    public void upsert(long id, long start, long end, int color, String location) {
+        int row = indexOf(id);
+        if (row < 0) {
+            row = -row - 1;
+            insertAt(row, id);
+        }
+        startMillis[row] = start;
+        endMillis[row] = end;
+        colors[row] = color;
+        locationCodes[row] = location == null ? NONE : encode(location);
+    }
+
+    public boolean remove(long id) {
+        int row = indexOf(id);
+        if (row < 0) {
+            return false;
+        }
+        int tail = size - row - 1;
+        System.arraycopy(ids, row + 1, ids, row, tail);
+        System.arraycopy(startMillis, row + 1, startMillis, row, tail);
+        System.arraycopy(endMillis, row + 1, endMillis, row, tail);
+        System.arraycopy(colors, row + 1, colors, row, tail);
+        System.arraycopy(locationCodes, row + 1, locationCodes, row, tail);
+        size--;
+        return true;
+    }
+
+    /**
+     * Drops every row whose id is not in {@code liveIds}, which must be sorted ascending.
+     */
+    public int retainAll(long[] liveIds, int liveCount) {
+        int kept = 0;
+        int live = 0;
+        for (int row = 0; row < size; row++) {
+            while (live < liveCount && liveIds[live] < ids[row]) {
+                live++;
+            }
+            if (live < liveCount && liveIds[live] == ids[row]) {
+                ids[kept] = ids[row];
+                startMillis[kept] = startMillis[row];
+                endMillis[kept] = endMillis[row];
+                colors[kept] = colors[row];
+                locationCodes[kept] = locationCodes[row];
+                kept++;
+            }
+        }
+        int removed = size - kept;
+        size = kept;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(long id) {
+        return indexOf(id) >= 0;
+    }
+
+    /**
+     * Number of events per distinct location.
+     */
+    public Map<String, Integer> locationFrequencies() {
+        int[] counts = new int[dictionary.size()];
+        for (int row = 0; row < size; row++) {
+            if (locationCodes[row] != NONE) {
+                counts[locationCodes[row]]++;
+            }
+        }
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                frequencies.put(dictionary.get(code), counts[code]);
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * Bytes held by the columns and the location dictionary, excluding array and map overhead.
+     */
+    public long estimatedBytes() {
+        long bytes = (long) ids.length * (Long.BYTES * 3 + Integer.BYTES * 2);
+        for (String location : dictionary) {
+            bytes += location.length();
+        }
+        return bytes;
+    }
+
+    long id(int row) {
+        return ids[row];
+    }
+
+    long startMillis(int row) {
+        return startMillis[row];
+    }
+
+    long endMillis(int row) {
+        return endMillis[row];
+    }
+
+    int color(int row) {
+        return colors[row];
+    }
+
+    int locationCode(int row) {
+        return locationCodes[row];
+    }
+
+    List<String> dictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Packs {@code #rrggbb} into {@code 0xRRGGBB}. Anything else, including no color, becomes {@link #NONE}.
+     */
+    public static int packColor(String color) {
+        if (color == null || color.length() != 7 || color.charAt(0) != '#') {
+            return NONE;
+        }
+        int packed = 0;
+        for (int i = 1; i < 7; i++) {
+            int digit = Character.digit(color.charAt(i), 16);
+            if (digit < 0) {
+                return NONE;
+            }
+            packed = (packed << 4) | digit;
+        }
+        return packed;
+    }
+
+    private int encode(String location) {
+        Integer code = codes.get(location);
+        if (code == null) {
+            code = dictionary.size();
+            dictionary.add(location);
+            codes.put(location, code);
+        }
+        return code;
+    }
+
+    private int indexOf(long id) {
+        // Ids are assigned in increasing order, so new rows almost always go to the end
+        if (size == 0 || id > ids[size - 1]) {
+            return -size - 1;
+        }
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+
+    private void insertAt(int row, long id) {
+        if (size == ids.length) {
+            int capacity = ids.length + (ids.length >> 1) + 1;
+            ids = Arrays.copyOf(ids, capacity);
+            startMillis = Arrays.copyOf(startMillis, capacity);
+            endMillis = Arrays.copyOf(endMillis, capacity);
+            colors = Arrays.copyOf(colors, capacity);
+            locationCodes = Arrays.copyOf(locationCodes, capacity);
+        }
+        int tail = size - row;
+        System.arraycopy(ids, row, ids, row + 1, tail);
+        System.arraycopy(startMillis, row, startMillis, row + 1, tail);
+        System.arraycopy(endMillis, row, endMillis, row + 1, tail);
+        System.arraycopy(colors, row, colors, row + 1, tail);
+        System.arraycopy(locationCodes, row, locationCodes, row + 1, tail);
+        ids[row] = id;
+        size++;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.eventapi.snapshot;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Reads {@code event} rows straight into {@link EventColumns} with plain JDBC, without materializing an entity
+ * (or a projection proxy) per row. Timestamps are read and bound in UTC, like Hibernate does with
+ * {@code hibernate.jdbc.time_zone=UTC}.
+ */
+@Component
+public class EventColumnsQueries {
+
+    private static final String COLUMNS = "select id, start_time, end_time, color, location from event";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventColumnsQueries(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Database time, used as the point the columns are consistent with.
+     */
+    public Instant now() {
+        Calendar utc = utc();
+        return jdbcTemplate.queryForObject("select current_timestamp(3)", (rs, rowNum) -> rs.getTimestamp(1, utc).toInstant());
+    }
+
+    public EventColumns loadAll() {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from event", Integer.class);
+        EventColumns columns = new EventColumns(count);
+        Calendar utc = utc();
+        jdbcTemplate.query(COLUMNS + " order by id", (ResultSet rs) -> {
+            upsert(columns, rs, utc);
+        });
+        return columns;
+    }
+
+    /**
+     * Applies rows updated at or after {@code since}, returning how many were read.
+     */
+    public int loadChangedSince(Instant since, EventColumns columns) {
+        int[] changed = new int[1];
+        Calendar utc = utc();
+        jdbcTemplate.query(COLUMNS + " where updated_at >= ?",
+                ps -> ps.setTimestamp(1, Timestamp.from(since), utc),
+                (ResultSet rs) -> {
+                    upsert(columns, rs, utc);
+                    changed[0]++;
+                });
+        return changed[0];
+    }
+
+    /**
+     * Drops rows deleted or archived since the snapshot, returning how many were removed. Only ids are read,
+     * straight from the primary key.
+     */
+    public int removeDeleted(EventColumns columns) {
+        long[][] ids = {new long[Math.max(columns.size(), 16)]};
+        int[] count = new int[1];
+        jdbcTemplate.query("select id from event order by id", (ResultSet rs) -> {
+            if (count[0] == ids[0].length) {
+                ids[0] = Arrays.copyOf(ids[0], ids[0].length * 2);
+            }
+            ids[0][count[0]++] = rs.getLong(1);
+        });
+        return columns.retainAll(ids[0], count[0]);
+    }
+
+    private static void upsert(EventColumns columns, ResultSet rs, Calendar utc) throws SQLException {
+        columns.upsert(rs.getLong(1),
+                rs.getTimestamp(2, utc).getTime(),
+                rs.getTimestamp(3, utc).getTime(),
+                EventColumns.packColor(rs.getString(4)),
+                rs.getString(5));
+    }
+
+    private static Calendar utc() {
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.eventapi.snapshot;
+
+import com.example.eventapi.service.EventChange;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-process {@link EventColumns} kept current from committed {@link EventChange}s. While
+ * {@link EventSnapshotService} builds the initial columns, changes are buffered and replayed on top of them,
+ * so a write that lands between the catch-up query and {@link #finishLoading} is not lost.
+ * <p>
+ * Changes are ignored while the model is neither loading nor ready, i.e. with the snapshot disabled or after a
+ * failed load, so nothing accumulates that no reader will use.
+ */
+@Component
+public class EventReadModel {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private EventColumns columns = new EventColumns();
+
+    private List<EventChange> pending;
+
+    private boolean ready;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(change);
+            } else if (ready) {
+                apply(columns, change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public <T> T read(Function<EventColumns, T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(columns);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void startLoading() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void finishLoading(EventColumns loaded) {
+        lock.writeLock().lock();
+        try {
+            for (EventChange change : pending) {
+                apply(loaded, change);
+            }
+            columns = loaded;
+            pending = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void abortLoading() {
+        lock.writeLock().lock();
+        try {
+            pending = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(EventColumns columns, EventChange change) {
+        if (change.getCurrent() == null) {
+            columns.remove(change.getEventId());
+        } else {
+            columns.upsert(change.getCurrent());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.eventapi.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads and writes {@link EventColumns} as a memory-mapped file:
+ * <pre>
+ * int magic, int version, long asOfMillis, int rows, int dictionarySize
+ * dictionarySize x (int length, UTF-8 bytes)
+ * long[rows] ids, long[rows] startMillis, long[rows] endMillis, int[rows] colors, int[rows] locationCodes
+ * long crc32c of everything before it
+ * </pre>
+ * Columns are read with bulk copies straight out of the mapping. Files are written next to the target and
+ * moved into place, so a crash never leaves a half-written snapshot behind.
+ */
+public final class EventSnapshotFile {
+
+    private static final int MAGIC = 0x45564e54;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES + Integer.BYTES * 2;
+
+    private EventSnapshotFile() {
+    }
+
+    /**
+     * Columns as of {@code asOf}: rows changed at or after that instant may be missing or outdated.
+     */
+    public record Snapshot(Instant asOf, EventColumns columns) {
+    }
+
+    public static void write(Path path, EventColumns columns, Instant asOf) throws IOException {
+        int rows = columns.size();
+        // Only locations still in use are written, which also compacts the dictionary
+        int[] remapped = new int[columns.dictionary().size()];
+        Arrays.fill(remapped, EventColumns.NONE);
+        List<byte[]> dictionary = new ArrayList<>();
+        long dictionaryBytes = 0;
+        for (int row = 0; row < rows; row++) {
+            int code = columns.locationCode(row);
+            if (code != EventColumns.NONE && remapped[code] == EventColumns.NONE) {
+                byte[] bytes = columns.dictionary().get(code).getBytes(StandardCharsets.UTF_8);
+                remapped[code] = dictionary.size();
+                dictionary.add(bytes);
+                dictionaryBytes += Integer.BYTES + bytes.length;
+            }
+        }
+        long size = HEADER_BYTES + dictionaryBytes + (long) rows * (Long.BYTES * 3 + Integer.BYTES * 2) + Long.BYTES;
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(MAGIC).putInt(VERSION).putLong(asOf.toEpochMilli()).putInt(rows).putInt(dictionary.size());
+                for (byte[] bytes : dictionary) {
+                    buffer.putInt(bytes.length).put(bytes);
+                }
+                for (int row = 0; row < rows; row++) {
+                    buffer.putLong(columns.id(row));
+                }
+                for (int row = 0; row < rows; row++) {
+                    buffer.putLong(columns.startMillis(row));
+                }
+                for (int row = 0; row < rows; row++) {
+                    buffer.putLong(columns.endMillis(row));
+                }
+                for (int row = 0; row < rows; row++) {
+                    buffer.putInt(columns.color(row));
+                }
+                for (int row = 0; row < rows; row++) {
+                    int code = columns.locationCode(row);
+                    buffer.putInt(code == EventColumns.NONE ? EventColumns.NONE : remapped[code]);
+                }
+                buffer.putLong(checksum(buffer, (int) (size - Long.BYTES)));
+                buffer.force();
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write}.
+     *
+     * @throws IOException if the file cannot be read, has another format version or is corrupt
+     */
+    public static Snapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + Long.BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Unexpected snapshot size: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            long expected = buffer.getLong((int) size - Long.BYTES);
+            if (checksum(buffer, (int) size - Long.BYTES) != expected) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not an event snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version: " + version);
+            }
+            Instant asOf = Instant.ofEpochMilli(buffer.getLong());
+            int rows = buffer.getInt();
+            int dictionarySize = buffer.getInt();
+
+            List<String> dictionary = new ArrayList<>(dictionarySize);
+            for (int i = 0; i < dictionarySize; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                dictionary.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+
+            long[] ids = new long[rows];
+            long[] startMillis = new long[rows];
+            long[] endMillis = new long[rows];
+            int[] colors = new int[rows];
+            int[] locationCodes = new int[rows];
+            readLongs(buffer, ids);
+            readLongs(buffer, startMillis);
+            readLongs(buffer, endMillis);
+            readInts(buffer, colors);
+            readInts(buffer, locationCodes);
+            return new Snapshot(asOf, EventColumns.of(ids, startMillis, endMillis, colors, locationCodes, dictionary));
+        }
+    }
+
+    private static void readLongs(ByteBuffer buffer, long[] target) {
+        buffer.asLongBuffer().get(target);
+        buffer.position(buffer.position() + target.length * Long.BYTES);
+    }
+
+    private static void readInts(ByteBuffer buffer, int[] target) {
+        buffer.asIntBuffer().get(target);
+        buffer.position(buffer.position() + target.length * Integer.BYTES);
+    }
+
+    private static long checksum(ByteBuffer buffer, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(0, length));
+        return crc.getValue();
+    }
+}
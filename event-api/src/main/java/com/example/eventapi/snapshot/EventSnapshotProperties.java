@@ -0,0 +1,30 @@
+package com.example.eventapi.snapshot;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "snapshot")
+public class EventSnapshotProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Mount a volume here to keep the snapshot across container re-creation.
+     */
+    private Path path = Path.of(System.getProperty("java.io.tmpdir"), "event-api", "events.snapshot");
+
+    /**
+     * How often the read model is written back to {@link #path}. It is also written on shutdown.
+     */
+    private Duration interval = Duration.ofMinutes(10);
+
+    /**
+     * Rows updated this long before the snapshot was taken are read again on catch-up, covering
+     * transactions that were still open when it was written.
+     */
+    private Duration catchUpMargin = Duration.ofMinutes(1);
+}
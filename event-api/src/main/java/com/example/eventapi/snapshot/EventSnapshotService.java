@@ -0,0 +1,148 @@
+package com.example.eventapi.snapshot;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads {@link EventReadModel} at startup from the snapshot file plus a catch-up query, falling back to a full
+ * table read when there is no usable snapshot, and writes the model back periodically and on shutdown.
+ * <p>
+ * Runs before the other application runners, so the model is loaded before readiness is reported.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class EventSnapshotService implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventSnapshotService.class);
+
+    private final EventReadModel readModel;
+
+    private final EventColumnsQueries queries;
+
+    private final EventSnapshotProperties properties;
+
+    public EventSnapshotService(EventReadModel readModel,
+                                EventColumnsQueries queries,
+                                EventSnapshotProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.readModel = readModel;
+        this.queries = queries;
+        this.properties = properties;
+        Gauge.builder("events.snapshot.rows", readModel, model -> model.read(EventColumns::size))
+                .description("Rows in the columnar event read model")
+                .register(meterRegistry);
+        Gauge.builder("events.snapshot.bytes", readModel, model -> model.read(EventColumns::estimatedBytes))
+                .description("Approximate heap held by the columnar event read model")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        readModel.startLoading();
+        try {
+            EventColumns columns = loadSnapshot();
+            if (columns != null) {
+                readModel.finishLoading(columns);
+                LOGGER.info("Event read model ready with {} events in {} ms", columns.size(), elapsedMillis(startedAt));
+                return;
+            }
+            Instant asOf = queries.now();
+            columns = queries.loadAll();
+            readModel.finishLoading(columns);
+            LOGGER.info("Loaded {} events from the database in {} ms", columns.size(), elapsedMillis(startedAt));
+            writeSnapshot(asOf);
+        } catch (RuntimeException e) {
+            readModel.abortLoading();
+            LOGGER.error("Failed to load the event read model", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${snapshot.interval:PT10M}", fixedDelayString = "${snapshot.interval:PT10M}")
+    public void write() {
+        if (properties.isEnabled() && readModel.isReady()) {
+            writeSnapshot(queries.now());
+        }
+    }
+
+    @PreDestroy
+    public void writeOnShutdown() {
+        write();
+    }
+
+    /**
+     * Returns the snapshot brought up to date with the database, or {@code null} when there is none or it cannot
+     * be read.
+     */
+    private EventColumns loadSnapshot() {
+        if (!Files.exists(properties.getPath())) {
+            return null;
+        }
+        long startedAt = System.nanoTime();
+        EventSnapshotFile.Snapshot snapshot;
+        try {
+            snapshot = EventSnapshotFile.read(properties.getPath());
+        } catch (IOException e) {
+            LOGGER.warn("Ignoring unreadable snapshot {}", properties.getPath(), e);
+            return null;
+        }
+        long loadedAt = System.nanoTime();
+        EventColumns columns = snapshot.columns();
+        int snapshotRows = columns.size();
+        int changed = queries.loadChangedSince(snapshot.asOf().minus(properties.getCatchUpMargin()), columns);
+        int removed = queries.removeDeleted(columns);
+        LOGGER.info("Loaded {} events from snapshot as of {} in {} ms, caught up {} changed and {} removed in {} ms",
+                snapshotRows, snapshot.asOf(), TimeUnit.NANOSECONDS.toMillis(loadedAt - startedAt),
+                changed, removed, elapsedMillis(loadedAt));
+        return columns;
+    }
+
+    /**
+     * {@code asOf} must be taken before the model is read, so changes committed while writing are caught up
+     * on the next start.
+     */
+    private void writeSnapshot(Instant asOf) {
+        long startedAt = System.nanoTime();
+        try {
+            int rows = readModel.read(columns -> {
+                try {
+                    EventSnapshotFile.write(properties.getPath(), columns, asOf);
+                    return columns.size();
+                } catch (IOException e) {
+                    throw new SnapshotWriteException(e);
+                }
+            });
+            LOGGER.info("Wrote snapshot of {} events to {} in {} ms", rows, properties.getPath(), elapsedMillis(startedAt));
+        } catch (SnapshotWriteException e) {
+            LOGGER.warn("Failed to write snapshot to {}", properties.getPath(), e.getCause());
+        }
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    private static final class SnapshotWriteException extends RuntimeException {
+
+        private SnapshotWriteException(IOException cause) {
+            super(cause);
+        }
+    }
+}
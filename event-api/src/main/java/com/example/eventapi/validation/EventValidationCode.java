@@ -0,0 +1,57 @@
+package com.example.eventapi.validation;
+
+import com.example.eventapi.dto.EventRequest;
+
+/**
+ * Every rule an {@link EventRequest} is checked against, with the field it reports on and, for rules that are also
+ * declared on {@link EventRequest}, the bean validation constraint. The ordinal is the rule's
+ * bit in {@link ValidationResult} and fixes the order of messages in a combined error.
+ */
+public enum EventValidationCode {
+    TITLE_REQUIRED("title", "NotNull", "title cannot be null"),
+    TITLE_EMPTY("title", "NotEmpty", "title cannot be empty"),
+    START_TIME_REQUIRED("startTime", "NotNull", "start time cannot be null"),
+    END_TIME_REQUIRED("endTime", "NotNull", "end time cannot be null"),
+    END_EQUALS_START("endTime", null, "Start date and past data cannot be the same"),
+    END_BEFORE_START("endTime", null, "End time must be after start time"),
+    INVALID_COLOR("color", null, "Color must be a valid hex color code (e.g., #6f42c1)"),
+    REMINDER_NEGATIVE("reminderMinutes", "PositiveOrZero", "reminder minutes cannot be negative"),
+    REMINDER_TOO_EARLY("reminderMinutes", "Max", "reminder cannot be set more than " + EventRequest.MAX_REMINDER_MINUTES + " minutes before start");
+
+    private final String field;
+
+    private final String constraint;
+
+    private final String message;
+
+    EventValidationCode(String field, String constraint, String message) {
+        this.field = field;
+        this.constraint = constraint;
+        this.message = message;
+    }
+
+    /**
+     * The code for a bean validation failure on {@link EventRequest}, given the field and the simple name of the
+     * constraint annotation, or null if no code matches.
+     */
+    public static EventValidationCode forConstraint(String field, String constraint) {
+        for (EventValidationCode code : values()) {
+            if (code.field.equals(field) && constraint.equals(code.constraint)) {
+                return code;
+            }
+        }
+        return null;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+}
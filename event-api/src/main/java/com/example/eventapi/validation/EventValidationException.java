@@ -0,0 +1,26 @@
+package com.example.eventapi.validation;
+
+/**
+ * Thrown for a request that failed validation. Invalid input is an expected outcome rather than a fault, so the
+ * exception carries no stack trace; filling one in is most of the cost of throwing.
+ * <p>
+ * Extends {@link IllegalArgumentException} so existing handlers keep answering with 400.
+ */
+public class EventValidationException extends IllegalArgumentException {
+
+    private final transient ValidationResult result;
+
+    public EventValidationException(ValidationResult result) {
+        super(result.getMessage());
+        this.result = result;
+    }
+
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.eventapi.validation;
+
+import lombok.Value;
+
+/**
+ * A failed rule as reported to clients: the request field, a stable machine-readable code and the message.
+ */
+@Value
+public class FieldViolation {
+    String field;
+    String code;
+    String message;
+
+    public static FieldViolation of(EventValidationCode code) {
+        return new FieldViolation(code.getField(), code.name(), code.getMessage());
+    }
+
+    /**
+     * A bean validation failure, reported with the {@link EventValidationCode} of the constraint where there is
+     * one, so a rule has the same code whichever layer caught it, and with the constraint name otherwise.
+     */
+    public static FieldViolation ofConstraint(String field, String constraint, String message) {
+        EventValidationCode code = constraint == null ? null : EventValidationCode.forConstraint(field, constraint);
+        return new FieldViolation(field, code != null ? code.name() : constraint, message);
+    }
+}
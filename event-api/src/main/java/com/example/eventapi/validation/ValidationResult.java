@@ -0,0 +1,71 @@
+package com.example.eventapi.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of checking one request: the set of failed {@link EventValidationCode}s as a bit mask. There are only
+ * {@code 2^n} possible results, so all of them, with their violation lists and joined messages, are built once
+ * and shared instead of being built per request.
+ */
+public final class ValidationResult {
+
+    private static final ValidationResult[] RESULTS = new ValidationResult[1 << EventValidationCode.values().length];
+
+    static {
+        for (int mask = 0; mask < RESULTS.length; mask++) {
+            RESULTS[mask] = new ValidationResult(mask);
+        }
+    }
+
+    public static final ValidationResult VALID = RESULTS[0];
+
+    private final int mask;
+
+    private final List<FieldViolation> violations;
+
+    private final String message;
+
+    private ValidationResult(int mask) {
+        this.mask = mask;
+        List<FieldViolation> violations = new ArrayList<>();
+        for (EventValidationCode code : EventValidationCode.values()) {
+            if ((mask & code.bit()) != 0) {
+                violations.add(FieldViolation.of(code));
+            }
+        }
+        this.violations = List.copyOf(violations);
+        this.message = String.join("; ", violations.stream().map(FieldViolation::getMessage).toList());
+    }
+
+    /**
+     * The result for a mask of {@link EventValidationCode#bit()}s.
+     */
+    public static ValidationResult of(int mask) {
+        return RESULTS[mask];
+    }
+
+    public boolean isValid() {
+        return mask == 0;
+    }
+
+    public boolean has(EventValidationCode code) {
+        return (mask & code.bit()) != 0;
+    }
+
+    public List<FieldViolation> getViolations() {
+        return violations;
+    }
+
+    /**
+     * The messages of all violations joined with {@code "; "}, empty when valid.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "ValidationResult(valid)" : "ValidationResult(" + message + ")";
+    }
+}
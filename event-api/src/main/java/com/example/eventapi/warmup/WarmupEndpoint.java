@@ -0,0 +1,24 @@
+package com.example.eventapi.warmup;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes how long the startup warmup took and the request latency before and after it at {@code /actuator/warmup}.
+ */
+@Component
+@Endpoint(id = "warmup")
+public class WarmupEndpoint {
+
+    private final WarmupRunner warmupRunner;
+
+    public WarmupEndpoint(WarmupRunner warmupRunner) {
+        this.warmupRunner = warmupRunner;
+    }
+
+    @ReadOperation
+    public WarmupReport report() {
+        return warmupRunner.getReport();
+    }
+}
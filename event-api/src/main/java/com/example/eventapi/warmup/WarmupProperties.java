@@ -0,0 +1,29 @@
+package com.example.eventapi.warmup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Rounds of synthetic requests. Each round reads an empty time window (with and without field
+     * selection), looks up a missing event and posts two invalid events.
+     */
+    private int iterations = 500;
+
+    /**
+     * Rounds at the start and end of the warmup whose median latency is reported as before and after.
+     */
+    private int sampleSize = 50;
+
+    /**
+     * Upper bound on the warmup, after which readiness is reported regardless.
+     */
+    private Duration maxDuration = Duration.ofSeconds(30);
+}
@@ -0,0 +1,23 @@
+package com.example.eventapi.warmup;
+
+import lombok.Value;
+
+@Value
+public class WarmupReport {
+
+    public enum Status {
+        PENDING, SKIPPED, COMPLETED, FAILED
+    }
+
+    Status status;
+    int rounds;
+    long durationMillis;
+    int pooledConnections;
+    long firstRoundMicros;
+    long medianBeforeMicros;
+    long medianAfterMicros;
+
+    public static WarmupReport of(Status status) {
+        return new WarmupReport(status, 0, 0, 0, 0, 0, 0);
+    }
+}
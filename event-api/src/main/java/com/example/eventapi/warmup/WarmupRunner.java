@@ -0,0 +1,222 @@
+package com.example.eventapi.warmup;
+
+import com.example.eventapi.dto.EventRequest;
+import com.example.eventapi.mapper.EventMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warms up the JIT, the connection pool and Hibernate before the application reports readiness.
+ * <p>
+ * Application runners complete before Spring Boot publishes {@code ReadinessState.ACCEPTING_TRAFFIC}, so
+ * {@code /actuator/health/readiness} stays {@code OUT_OF_SERVICE} while this runs. The synthetic requests go
+ * through the embedded server, i.e. the real filters, Jackson, validation, controller, service and exception
+ * handler, and never write: they read a time window in 1970 and an id that cannot exist, and post events
+ * that fail validation. Warmup failures are logged and never block readiness.
+ */
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final String EMPTY_WINDOW = "from=1970-01-01T00:00:00Z&to=1970-01-02T00:00:00Z";
+
+    private final WarmupProperties properties;
+
+    private final ApplicationContext applicationContext;
+
+    private final DataSource dataSource;
+
+    private final EventMapper eventMapper;
+
+    private final ObjectMapper objectMapper;
+
+    private final RestClient.Builder restClientBuilder;
+
+    private volatile WarmupReport report = WarmupReport.of(WarmupReport.Status.PENDING);
+
+    public WarmupRunner(WarmupProperties properties,
+                        ApplicationContext applicationContext,
+                        DataSource dataSource,
+                        EventMapper eventMapper,
+                        ObjectMapper objectMapper,
+                        RestClient.Builder restClientBuilder) {
+        this.properties = properties;
+        this.applicationContext = applicationContext;
+        this.dataSource = dataSource;
+        this.eventMapper = eventMapper;
+        this.objectMapper = objectMapper;
+        this.restClientBuilder = restClientBuilder;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled() || !(applicationContext instanceof WebServerApplicationContext webContext)) {
+            report = WarmupReport.of(WarmupReport.Status.SKIPPED);
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            int pooledConnections = fillConnectionPool();
+            RestClient restClient = restClientBuilder
+                    .baseUrl("http://localhost:" + webContext.getWebServer().getPort())
+                    .defaultStatusHandler(status -> true, (request, response) -> {
+                    })
+                    .build();
+            report = exercise(() -> round(restClient), pooledConnections, startedAt);
+            LOGGER.info("Warmup completed in {} ms: {} rounds, {} pooled connections, round latency {} us -> {} us (first round {} us)",
+                    report.getDurationMillis(), report.getRounds(), report.getPooledConnections(),
+                    report.getMedianBeforeMicros(), report.getMedianAfterMicros(), report.getFirstRoundMicros());
+        } catch (RuntimeException e) {
+            report = new WarmupReport(WarmupReport.Status.FAILED, 0, elapsedMillis(startedAt), 0, 0, 0, 0);
+            LOGGER.warn("Warmup failed after {} ms, reporting readiness anyway", report.getDurationMillis(), e);
+        }
+    }
+
+    public WarmupReport getReport() {
+        return report;
+    }
+
+    /**
+     * Runs {@code round} up to {@code warmup.iterations} times or until {@code warmup.max-duration} has passed,
+     * and compares the median latency of the first and last {@code warmup.sample-size} rounds.
+     */
+    WarmupReport exercise(Runnable round, int pooledConnections, long startedAt) {
+        long deadline = startedAt + properties.getMaxDuration().toNanos();
+        long[] latencies = new long[properties.getIterations()];
+        int rounds = 0;
+        while (rounds < latencies.length && System.nanoTime() < deadline) {
+            long roundStart = System.nanoTime();
+            round.run();
+            latencies[rounds++] = System.nanoTime() - roundStart;
+        }
+        if (rounds < latencies.length) {
+            LOGGER.warn("Warmup stopped after {} of {} rounds, max duration {} reached",
+                    rounds, latencies.length, properties.getMaxDuration());
+        }
+        int sample = Math.max(1, Math.min(properties.getSampleSize(), rounds / 2));
+        return new WarmupReport(
+                WarmupReport.Status.COMPLETED,
+                rounds,
+                elapsedMillis(startedAt),
+                pooledConnections,
+                rounds == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(latencies[0]),
+                medianMicros(latencies, 0, Math.min(sample, rounds)),
+                medianMicros(latencies, Math.max(0, rounds - sample), rounds));
+    }
+
+    private void round(RestClient restClient) {
+        restClient.get().uri("/events?" + EMPTY_WINDOW).retrieve().body(String.class);
+        restClient.get().uri("/events?" + EMPTY_WINDOW + "&fields=title,startTime,color").retrieve().body(String.class);
+        restClient.get().uri("/events/{id}", -1L).retrieve().body(String.class);
+        post(restClient, endBeforeStartRequest());
+        post(restClient, untitledRequest());
+
+        // Mapping and serialization of a full event, which the empty reads above never produce
+        try {
+            EventRequest request = objectMapper.readValue(objectMapper.writeValueAsString(sampleRequest()), EventRequest.class);
+            objectMapper.writeValueAsString(eventMapper.toEntity(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Warmup serialization failed", e);
+        }
+    }
+
+    private void post(RestClient restClient, EventRequest request) {
+        restClient.post().uri("/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(String.class);
+    }
+
+    /**
+     * Opens the pool's minimum number of idle connections up front instead of on the first requests.
+     */
+    private int fillConnectionPool() {
+        HikariDataSource hikari;
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return 0;
+            }
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return 0;
+        }
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < hikari.getMinimumIdle(); i++) {
+                connections.add(hikari.getConnection());
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Could not open {} connections, opened {}", hikari.getMinimumIdle(), connections.size(), e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    LOGGER.debug("Failed to return warmup connection", e);
+                }
+            }
+        }
+        return connections.size();
+    }
+
+    private static EventRequest sampleRequest() {
+        EventRequest request = new EventRequest();
+        request.setTitle("Warmup");
+        request.setDescription("Synthetic event, never persisted");
+        request.setStartTime(Instant.parse("1970-01-01T01:00:00Z"));
+        request.setEndTime(Instant.parse("1970-01-01T02:00:00Z"));
+        request.setLocation("Nowhere");
+        request.setColor("#1a73e8");
+        request.setReminderMinutes(15);
+        return request;
+    }
+
+    /**
+     * Passes bean validation and is rejected by {@code EventRequestValidator}.
+     */
+    private static EventRequest endBeforeStartRequest() {
+        EventRequest request = sampleRequest();
+        request.setEndTime(request.getStartTime().minusSeconds(3600));
+        return request;
+    }
+
+    private static EventRequest untitledRequest() {
+        EventRequest request = sampleRequest();
+        request.setTitle(null);
+        return request;
+    }
+
+    private static long medianMicros(long[] latencies, int from, int to) {
+        if (to <= from) {
+            return 0;
+        }
+        long[] sample = Arrays.copyOfRange(latencies, from, to);
+        Arrays.sort(sample);
+        return TimeUnit.NANOSECONDS.toMicros(sample[sample.length / 2]);
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,4 @@
+-- Time of the newest id issued under a node id, in epoch milliseconds. Written on every lease renewal and on
+-- release; the next holder of the node id issues ids after it even if its clock is behind.
+ALTER TABLE id_node_lease
+    ADD COLUMN last_id_millis BIGINT NOT NULL DEFAULT 0;
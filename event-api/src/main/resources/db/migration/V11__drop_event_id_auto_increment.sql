@@ -0,0 +1,4 @@
+-- Event ids are assigned by the application in both event-api and event-api-reactive. Without AUTO_INCREMENT an
+-- insert that omits the id fails instead of taking a value from a range the id generator also hands out.
+ALTER TABLE event
+    MODIFY id BIGINT NOT NULL;
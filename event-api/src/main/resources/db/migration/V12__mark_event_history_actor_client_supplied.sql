@@ -0,0 +1,4 @@
+-- The actor was copied from an unauthenticated request header. The new name says that it is whatever the client
+-- sent, so it is not mistaken for a verified user.
+ALTER TABLE event_history
+    CHANGE actor client_actor VARCHAR(255) COMMENT 'Request header as sent by the client, not authenticated';
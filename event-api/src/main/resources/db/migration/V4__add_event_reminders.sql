@@ -0,0 +1,3 @@
+ALTER TABLE event ADD COLUMN reminder_minutes INT;
+
+CREATE INDEX idx_event_start_time ON event (start_time);
@@ -0,0 +1,19 @@
+CREATE TABLE event_archive
+(
+    id               BIGINT       NOT NULL,
+    title            VARCHAR(255) NOT NULL,
+    description      VARCHAR(255),
+    start_time       TIMESTAMP    NOT NULL,
+    end_time         TIMESTAMP    NOT NULL,
+    location         VARCHAR(255),
+    color            VARCHAR(7),
+    reminder_minutes INT,
+    archived_at      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_event_archive_start_time ON event_archive (start_time);
+
+CREATE INDEX idx_event_archive_end_time ON event_archive (end_time);
+
+CREATE INDEX idx_event_end_time ON event (end_time);
@@ -0,0 +1,5 @@
+-- Lets the columnar snapshot catch up on rows changed after it was written
+ALTER TABLE event
+    ADD COLUMN updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3);
+
+CREATE INDEX idx_event_updated_at ON event (updated_at);
@@ -0,0 +1,9 @@
+-- Overlap probe for double-booking checks: equality on location, range on start_time
+CREATE INDEX idx_event_location_time ON event (location, start_time, end_time);
+
+-- One row per bookable location; writers lock it so concurrent checks for the same location run one at a time
+CREATE TABLE resource_lock
+(
+    resource VARCHAR(255) NOT NULL,
+    PRIMARY KEY (resource)
+);
@@ -0,0 +1,13 @@
+-- Node ids for application-side id generation. An instance leases a free row at startup and renews it
+-- while running; expired leases are free again. 32 rows match the 5 node bits of the id layout.
+CREATE TABLE id_node_lease
+(
+    node_id    SMALLINT     NOT NULL,
+    owner      VARCHAR(64),
+    expires_at TIMESTAMP(3) NOT NULL DEFAULT '1970-01-01 00:00:01.000',
+    PRIMARY KEY (node_id)
+);
+
+INSERT INTO id_node_lease (node_id)
+WITH RECURSIVE nodes (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM nodes WHERE n < 31)
+SELECT n FROM nodes;
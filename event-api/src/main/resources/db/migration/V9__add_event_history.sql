@@ -0,0 +1,14 @@
+-- Append-only audit trail of event changes, written asynchronously in batches by the application.
+-- Rows are never updated; history is read per event newest first by keyset on (event_id, id).
+CREATE TABLE event_history
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    event_id    BIGINT       NOT NULL,
+    change_type VARCHAR(16)  NOT NULL,
+    changed_at  TIMESTAMP(3) NOT NULL,
+    actor       VARCHAR(255),
+    previous    JSON,
+    current     JSON,
+    PRIMARY KEY (id),
+    INDEX idx_event_history_event (event_id, id)
+);
@@ -0,0 +1,92 @@
+package com.example.eventapi.booking;
+
+import com.example.eventapi.TestcontainersConfiguration;
+import com.example.eventapi.model.Event;
+import com.example.eventapi.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "booking.enabled=true")
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class BookingConcurrencyTest {
+
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private EventService eventService;
+
+    @Test
+    void saveEvent_ShouldAcceptExactlyOneOfConcurrentOverlappingBookings() throws Exception {
+        String location = "Concurrency Room " + System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Event>> results = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                int offset = i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return eventService.saveEvent(createEvent(location, offset));
+                }));
+            }
+            start.countDown();
+
+            int saved = 0;
+            int conflicts = 0;
+            for (Future<Event> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                    saved++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(BookingConflictException.class, e.getCause());
+                    conflicts++;
+                }
+            }
+            assertEquals(1, saved);
+            assertEquals(WRITERS - 1, conflicts);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void saveEvent_ShouldAcceptAdjacentBookings() {
+        String location = "Adjacent Room " + System.nanoTime();
+        Event first = createEvent(location, 0);
+        Event second = createEvent(location, 0);
+        second.setStartTime(first.getEndTime());
+        second.setEndTime(first.getEndTime().plusSeconds(3600));
+
+        eventService.saveEvent(first);
+
+        assertDoesNotThrow(() -> eventService.saveEvent(second));
+    }
+
+    /**
+     * Events for the same location all overlap: they all cover 10:07-12:00.
+     */
+    private Event createEvent(String location, int offsetMinutes) {
+        Event event = new Event();
+        event.setTitle("Booking " + offsetMinutes);
+        event.setStartTime(Instant.parse("2024-12-25T10:00:00Z").plusSeconds(offsetMinutes * 60L));
+        event.setEndTime(Instant.parse("2024-12-25T12:00:00Z"));
+        event.setLocation(location);
+        return event;
+    }
+}
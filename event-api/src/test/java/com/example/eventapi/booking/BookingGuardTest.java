@@ -0,0 +1,101 @@
+package com.example.eventapi.booking;
+
+import com.example.eventapi.model.Event;
+import com.example.eventapi.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingGuardTest {
+
+    private static final Instant START = Instant.parse("2024-12-25T10:00:00Z");
+
+    private static final Instant END = Instant.parse("2024-12-25T12:00:00Z");
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private BookingProperties properties;
+
+    private BookingGuard bookingGuard;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BookingProperties();
+        properties.setEnabled(true);
+        bookingGuard = new BookingGuard(eventRepository, properties);
+    }
+
+    @Test
+    void check_ShouldLockLocationBeforeProbingForOverlaps() {
+        when(eventRepository.findConflicts("Room A", START, END, null, Limit.of(10))).thenReturn(List.of());
+
+        bookingGuard.check(event(null, "Room A"), null);
+
+        InOrder inOrder = inOrder(eventRepository);
+        inOrder.verify(eventRepository).lockResource("Room A");
+        inOrder.verify(eventRepository).findConflicts("Room A", START, END, null, Limit.of(10));
+    }
+
+    @Test
+    void check_ShouldRejectOverlappingEvent() {
+        Event existing = event(7L, "Room A");
+        when(eventRepository.findConflicts("Room A", START, END, 3L, Limit.of(10))).thenReturn(List.of(existing));
+
+        BookingConflictException exception = assertThrows(BookingConflictException.class,
+                () -> bookingGuard.check(event(3L, "Room A"), 3L));
+
+        assertEquals("Room A", exception.getLocation());
+        assertEquals(List.of(existing), exception.getConflicts());
+    }
+
+    @Test
+    void check_ShouldSkipWhenDisabled() {
+        properties.setEnabled(false);
+
+        bookingGuard.check(event(null, "Room A"), null);
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void check_ShouldSkipEventsWithoutLocation() {
+        bookingGuard.check(event(null, null), null);
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void check_ShouldOnlyEnforceListedResources() {
+        properties.setResources(Set.of("Room A"));
+        when(eventRepository.findConflicts("room a", START, END, null, Limit.of(10))).thenReturn(List.of());
+
+        bookingGuard.check(event(null, "Main Hall"), null);
+        bookingGuard.check(event(null, "room a"), null);
+
+        verify(eventRepository, never()).lockResource("Main Hall");
+        verify(eventRepository, times(1)).lockResource("room a");
+    }
+
+    private static Event event(Long id, String location) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Test Event");
+        event.setStartTime(START);
+        event.setEndTime(END);
+        event.setLocation(location);
+        return event;
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.eventapi.coalescing;
+
+import com.example.eventapi.model.Event;
+import com.example.eventapi.service.EventChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadCoalescerTest {
+
+    private static final Object KEY = List.of("all");
+
+    private ReadCoalescingProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ReadCoalescer readCoalescer;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReadCoalescingProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        readCoalescer = new ReadCoalescer(properties, TransactionOperations.withoutTransaction(), meterRegistry);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void read_ShouldShareInFlightQueryBetweenIdenticalReads() throws Exception {
+        BlockingQuery query = new BlockingQuery("result");
+
+        Future<String> leader = executor.submit(() -> readCoalescer.read(KEY, query));
+        query.awaitStarted();
+        Future<String> follower = executor.submit(() -> readCoalescer.read(KEY, query));
+        waitUntilWaiting();
+        query.release();
+
+        assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, query.executions.get());
+        assertEquals(1, count("executed"));
+        assertEquals(1, count("joined"));
+    }
+
+    @Test
+    void read_ShouldNotShareQueriesWithDifferentKeys() {
+        AtomicInteger executions = new AtomicInteger();
+
+        readCoalescer.read(List.of("between", 1), executions::incrementAndGet);
+        readCoalescer.read(List.of("between", 2), executions::incrementAndGet);
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void read_ShouldBypassInFlightQueryStartedBeforeWrite() throws Exception {
+        BlockingQuery query = new BlockingQuery("stale");
+
+        Future<String> leader = executor.submit(() -> readCoalescer.read(KEY, query));
+        query.awaitStarted();
+        readCoalescer.onEventChange(EventChange.created(new Event()));
+
+        assertEquals("fresh", readCoalescer.read(KEY, () -> "fresh"));
+        query.release();
+        assertEquals("stale", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, count("bypassed"));
+    }
+
+    @Test
+    void read_ShouldRunOwnQueryWhenWaitTimesOut() throws Exception {
+        properties.setWaitTimeout(Duration.ofMillis(50));
+        BlockingQuery query = new BlockingQuery("slow");
+
+        Future<String> leader = executor.submit(() -> readCoalescer.read(KEY, query));
+        query.awaitStarted();
+
+        assertEquals("own", readCoalescer.read(KEY, () -> "own"));
+        assertEquals(1, count("timeout"));
+        query.release();
+        assertEquals("slow", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void read_ShouldPropagateLeaderFailureToFollowers() throws Exception {
+        BlockingQuery query = new BlockingQuery(null);
+
+        Future<String> leader = executor.submit(() -> readCoalescer.read(KEY, query));
+        query.awaitStarted();
+        Future<String> follower = executor.submit(() -> readCoalescer.read(KEY, query));
+        waitUntilWaiting();
+        query.release();
+
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+        assertInstanceOf(IllegalStateException.class, followerFailure.getCause());
+        assertEquals(1, query.executions.get());
+    }
+
+    @Test
+    void read_ShouldRunOwnQueryWhenLeaderIsInterrupted() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> readCoalescer.read(KEY, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+                return "never";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Query cancelled", e);
+            }
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> follower = executor.submit(() -> readCoalescer.read(KEY, () -> "own"));
+        waitUntilWaiting();
+        leader.cancel(true);
+
+        assertEquals("own", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, count("retried"));
+    }
+
+    @Test
+    void read_ShouldBypassWhenDisabled() {
+        properties.setEnabled(false);
+        AtomicInteger executions = new AtomicInteger();
+
+        readCoalescer.read(KEY, executions::incrementAndGet);
+
+        assertEquals(1, executions.get());
+        assertEquals(1, count("bypassed"));
+        assertEquals(0, count("executed"));
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("events.read.coalescing").tag("outcome", outcome).counter().count();
+    }
+
+    /**
+     * A follower only counts as joined once the leader completes, so wait until it has reached the wait.
+     */
+    private void waitUntilWaiting() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (readCoalescer.waiting() == 0) {
+            assertTrue(System.nanoTime() < deadline, "follower did not join the read in flight");
+            Thread.sleep(1);
+        }
+    }
+
+    private static final class BlockingQuery implements Supplier<String> {
+
+        private final String result;
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private final AtomicInteger executions = new AtomicInteger();
+
+        private BlockingQuery(String result) {
+            this.result = result;
+        }
+
+        @Override
+        public String get() {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (result == null) {
+                throw new IllegalStateException("Query failed");
+            }
+            return result;
+        }
+
+        void awaitStarted() throws InterruptedException {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
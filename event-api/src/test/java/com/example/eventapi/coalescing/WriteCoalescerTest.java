@@ -0,0 +1,253 @@
+package com.example.eventapi.coalescing;
+
+import com.example.eventapi.model.Event;
+import com.example.eventapi.service.EventService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteCoalescerTest {
+
+    @Mock
+    private EventService eventService;
+
+    private final WriteCoalescingProperties properties = new WriteCoalescingProperties();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private WriteCoalescer writeCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setWindow(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writeCoalescer != null && writeCoalescer.isRunning()) {
+            writeCoalescer.stop();
+        }
+    }
+
+    @Test
+    void update_ShouldWriteLeadingUpdateAtOnceAndOnlyLatestStateOfTheRest() {
+        properties.setAcknowledge(WriteCoalescingProperties.Acknowledge.ACCEPTED);
+        start();
+
+        assertEquals(WriteCoalescer.Acknowledgement.WRITTEN, writeCoalescer.update(1L, event("Move 1")));
+        verify(eventService, times(1)).updateEvent(eq(1L), argThat(event -> event.getTitle().equals("Move 1")));
+        for (int i = 2; i <= 5; i++) {
+            assertEquals(WriteCoalescer.Acknowledgement.ACCEPTED, writeCoalescer.update(1L, event("Move " + i)));
+        }
+        assertEquals(WriteCoalescer.Acknowledgement.WRITTEN, writeCoalescer.update(2L, event("Other")));
+        verify(eventService, times(2)).updateEvent(any(), any(Event.class));
+
+        // Stopping flushes whatever is pending without waiting for the window
+        writeCoalescer.stop();
+
+        verify(eventService, times(1)).updateEvent(eq(1L), argThat(event -> event.getTitle().equals("Move 5")));
+        verify(eventService, times(1)).updateEvent(eq(2L), any(Event.class));
+        verify(eventService, times(3)).updateEvent(any(), any(Event.class));
+        assertEquals(6, count("received"));
+        assertEquals(3, count("superseded"));
+        assertEquals(3, count("written"));
+    }
+
+    @Test
+    void update_ShouldNotWaitForWindowWhenNoWindowIsOpen() {
+        start();
+
+        // The window is a minute long, the leading update must not wait for it
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertEquals(WriteCoalescer.Acknowledgement.WRITTEN, writeCoalescer.update(1L, event("Single"))));
+
+        verify(eventService, times(1)).updateEvent(eq(1L), any(Event.class));
+        assertEquals(1, count("written"));
+    }
+
+    @Test
+    void update_ShouldKeepCoalescingWhileUpdatesKeepComing() throws Exception {
+        properties.setAcknowledge(WriteCoalescingProperties.Acknowledge.ACCEPTED);
+        properties.setWindow(Duration.ofMillis(200));
+        start();
+
+        writeCoalescer.update(1L, event("Leading"));
+        assertEquals(WriteCoalescer.Acknowledgement.ACCEPTED, writeCoalescer.update(1L, event("Trailing")));
+        waitUntil("written", 2);
+
+        // The trailing write reopened the window, so the next update is coalesced again
+        assertEquals(WriteCoalescer.Acknowledgement.ACCEPTED, writeCoalescer.update(1L, event("Next")));
+        waitUntil("written", 3);
+
+        // A period without updates closes the window, after which an update is written right away again
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (meterRegistry.get("events.write.coalescing.pending").gauge().value() > 0) {
+            assertTrue(System.nanoTime() < deadline, "window was not closed in time");
+            Thread.sleep(1);
+        }
+        assertEquals(WriteCoalescer.Acknowledgement.WRITTEN, writeCoalescer.update(1L, event("Later")));
+        assertEquals(4, count("written"));
+    }
+
+    @Test
+    void update_ShouldWaitForWriteAndShareItsOutcome() throws Exception {
+        properties.setWindow(Duration.ofMillis(200));
+        doThrow(new NoSuchElementException("Event with id: 1 does not exist"))
+                .when(eventService).updateEvent(eq(1L), any(Event.class));
+        start();
+
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                String title = "Move " + i;
+                results.add(callers.submit(() -> writeCoalescer.update(1L, event(title))));
+            }
+            for (Future<?> result : results) {
+                Exception exception = assertThrows(Exception.class, result::get);
+                assertInstanceOf(NoSuchElementException.class, exception.getCause());
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        verify(eventService, atMost(3)).updateEvent(eq(1L), any(Event.class));
+        assertEquals(3, count("received"));
+        assertEquals(count("received") - count("superseded"), count("failed"));
+    }
+
+    @Test
+    void update_ShouldWriteDirectlyWhenTooManyEventsArePending() {
+        properties.setAcknowledge(WriteCoalescingProperties.Acknowledge.ACCEPTED);
+        properties.setMaxPending(1);
+        start();
+
+        writeCoalescer.update(1L, event("Leading"));
+        assertEquals(WriteCoalescer.Acknowledgement.ACCEPTED, writeCoalescer.update(1L, event("Trailing")));
+        assertEquals(WriteCoalescer.Acknowledgement.WRITTEN, writeCoalescer.update(2L, event("Second")));
+
+        verify(eventService, times(1)).updateEvent(eq(2L), any(Event.class));
+        assertEquals(1, count("bypassed"));
+    }
+
+    @Test
+    void update_ShouldWriteDirectlyWhenNotRunning() {
+        writeCoalescer = new WriteCoalescer(eventService, properties, meterRegistry);
+
+        assertFalse(writeCoalescer.isEnabled());
+        assertEquals(WriteCoalescer.Acknowledgement.WRITTEN, writeCoalescer.update(1L, event("Direct")));
+
+        verify(eventService, times(1)).updateEvent(eq(1L), any(Event.class));
+    }
+
+    @Test
+    void update_ShouldStopWaitingWhenWriteIsStuck() throws Exception {
+        properties.setWindow(Duration.ofMillis(20));
+        properties.setShutdownTimeout(Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (invocation.<Event>getArgument(1).getTitle().equals("Stuck")) {
+                release.await();
+            }
+            return null;
+        }).when(eventService).updateEvent(eq(1L), any(Event.class));
+        start();
+
+        try {
+            writeCoalescer.update(1L, event("Leading"));
+            assertThrows(IllegalStateException.class, () -> writeCoalescer.update(1L, event("Stuck")));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void stop_ShouldFailUpdatesNotWrittenWithinShutdownTimeout() throws Exception {
+        properties.setFlushThreads(1);
+        properties.setShutdownTimeout(Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (invocation.<Event>getArgument(1).getTitle().equals("Move")) {
+                release.await();
+            }
+            return null;
+        }).when(eventService).updateEvent(any(), any(Event.class));
+        start();
+        writeCoalescer.update(1L, event("Leading"));
+        writeCoalescer.update(2L, event("Leading"));
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (long id = 1; id <= 2; id++) {
+                long eventId = id;
+                results.add(callers.submit(() -> writeCoalescer.update(eventId, event("Move"))));
+            }
+            waitUntil("received", 4);
+
+            // The single flush thread blocks on the first write, so the second is still pending at the timeout
+            writeCoalescer.stop();
+            release.countDown();
+
+            int abandoned = 0;
+            for (Future<?> result : results) {
+                try {
+                    result.get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    assertInstanceOf(IllegalStateException.class, e.getCause());
+                    abandoned++;
+                }
+            }
+            assertEquals(1, abandoned);
+            assertEquals(1, count("failed"));
+            assertEquals(3, count("written"));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    private void waitUntil(String outcome, int updates) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (count(outcome) < updates) {
+            assertTrue(System.nanoTime() < deadline, "updates were not " + outcome + " in time");
+            Thread.sleep(1);
+        }
+    }
+
+    private void start() {
+        writeCoalescer = new WriteCoalescer(eventService, properties, meterRegistry);
+        writeCoalescer.start();
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("events.write.coalescing").tag("outcome", outcome).counter().count();
+    }
+
+    private static Event event(String title) {
+        Event event = new Event();
+        event.setTitle(title);
+        return event;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.eventapi.config;
+
+import com.example.eventapi.id.NodeIdLease;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleInstanceGuardTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ObjectProvider<NodeIdLease> nodeIdLeaseProvider;
+
+    @Mock
+    private NodeIdLease nodeIdLease;
+
+    @Test
+    void start_ShouldPassWhenOnlyOwnLeaseIsLive() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenReturn(1);
+        when(nodeIdLeaseProvider.getIfAvailable()).thenReturn(nodeIdLease);
+        when(nodeIdLease.isRunning()).thenReturn(true);
+
+        SingleInstanceGuard guard = guard(true);
+        guard.start();
+
+        assertTrue(guard.isRunning());
+    }
+
+    @Test
+    void start_ShouldWaitForStaleLeaseToExpire() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenReturn(2, 1);
+        when(nodeIdLeaseProvider.getIfAvailable()).thenReturn(nodeIdLease);
+        when(nodeIdLease.isRunning()).thenReturn(true);
+
+        SingleInstanceGuard guard = guard(true);
+        guard.start();
+
+        assertTrue(guard.isRunning());
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Integer.class));
+    }
+
+    @Test
+    void start_ShouldFailWhileAnotherInstanceIsRunning() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenReturn(2);
+        when(nodeIdLeaseProvider.getIfAvailable()).thenReturn(nodeIdLease);
+        when(nodeIdLease.isRunning()).thenReturn(true);
+
+        SingleInstanceGuard guard = guard(true);
+
+        assertThrows(IllegalStateException.class, guard::start);
+        assertFalse(guard.isRunning());
+    }
+
+    @Test
+    void start_ShouldNotCheckWithoutSecondLevelCache() {
+        SingleInstanceGuard guard = guard(false);
+        guard.start();
+
+        assertTrue(guard.isRunning());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private SingleInstanceGuard guard(boolean secondLevelCacheEnabled) {
+        return new SingleInstanceGuard(secondLevelCacheEnabled, jdbcTemplate, nodeIdLeaseProvider, Clock.systemUTC(),
+                Duration.ofMillis(50));
+    }
+}
@@ -1,26 +1,42 @@
 package com.example.eventapi.controller;
 
+import com.example.eventapi.booking.BookingConflictException;
+import com.example.eventapi.coalescing.WriteCoalescer;
+import com.example.eventapi.dto.EventField;
+import com.example.eventapi.dto.EventHistoryEntry;
+import com.example.eventapi.dto.EventHistoryPage;
 import com.example.eventapi.dto.EventRequest;
+import com.example.eventapi.dto.LocationSuggestion;
 import com.example.eventapi.mapper.EventMapper;
 import com.example.eventapi.model.Event;
 import com.example.eventapi.service.EventRequestValidator;
 import com.example.eventapi.service.EventService;
+import com.example.eventapi.validation.EventValidationCode;
+import com.example.eventapi.validation.EventValidationException;
+import com.example.eventapi.validation.ValidationResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,6 +56,9 @@ class EventControllerTest {
     @MockitoBean
     private EventRequestValidator eventRequestValidator;
 
+    @MockitoBean
+    private WriteCoalescer writeCoalescer;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -75,6 +94,36 @@ class EventControllerTest {
         verify(eventService, times(1)).saveEvent(any(Event.class));
     }
 
+    @Test
+    void saveEvent_ShouldReturnFieldViolationsWhenEventValidationFails() throws Exception {
+        doThrow(new EventValidationException(ValidationResult.of(EventValidationCode.END_BEFORE_START.bit())))
+                .when(eventRequestValidator).validate(any(EventRequest.class));
+
+        mockMvc.perform(post("/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validEventRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("End time must be after start time"))
+                .andExpect(jsonPath("$.errors.length()").value(1))
+                .andExpect(jsonPath("$.errors[0].field").value("endTime"))
+                .andExpect(jsonPath("$.errors[0].code").value("END_BEFORE_START"));
+    }
+
+    @Test
+    void saveEvent_ShouldReportConstraintViolationsWithValidationCodes() throws Exception {
+        validEventRequest.setStartTime(null);
+
+        mockMvc.perform(post("/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validEventRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("startTime"))
+                .andExpect(jsonPath("$.errors[0].code").value("START_TIME_REQUIRED"))
+                .andExpect(jsonPath("$.errors[0].message").value("start time cannot be null"));
+
+        verify(eventService, never()).saveEvent(any(Event.class));
+    }
+
     @Test
     void saveEvent_ShouldReturnBadRequestWhenValidationFails() throws Exception {
         doThrow(new IllegalArgumentException("Start time must be in the future"))
@@ -136,6 +185,93 @@ class EventControllerTest {
         verify(eventService, times(1)).getAllEvents();
     }
 
+    @Test
+    void getAll_ShouldReturnOnlyRequestedFields() throws Exception {
+        List<Map<String, Object>> rows = List.of(Map.of("id", 1L, "title", "Test Event"));
+        when(eventService.getAllEvents(EnumSet.of(EventField.ID, EventField.TITLE))).thenReturn(rows);
+
+        mockMvc.perform(get("/events").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(jsonPath("$[0].title").value("Test Event"))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        verify(eventService, times(1)).getAllEvents(EnumSet.of(EventField.ID, EventField.TITLE));
+        verify(eventService, never()).getAllEvents();
+    }
+
+    @Test
+    void getAll_ShouldReturnBadRequestForUnknownField() throws Exception {
+        mockMvc.perform(get("/events").param("fields", "title,organizer"))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).getAllEvents(anySet());
+    }
+
+    @Test
+    void getAll_ShouldReturnEventsWithinWindow() throws Exception {
+        Instant from = Instant.parse("2024-12-25T00:00:00Z");
+        Instant to = Instant.parse("2024-12-26T00:00:00Z");
+        when(eventService.getEventsBetween(from, to)).thenReturn(List.of(savedEvent));
+
+        mockMvc.perform(get("/events")
+                        .param("from", "2024-12-25T00:00:00Z")
+                        .param("to", "2024-12-26T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(1L));
+
+        verify(eventService, times(1)).getEventsBetween(from, to);
+        verify(eventService, never()).getAllEvents();
+    }
+
+    @Test
+    void getAll_ShouldReturnBadRequestWhenWindowIsIncomplete() throws Exception {
+        mockMvc.perform(get("/events").param("from", "2024-12-25T00:00:00Z"))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).getAllEvents();
+    }
+
+    @Test
+    void suggestLocations_ShouldReturnRankedSuggestions() throws Exception {
+        when(eventService.suggestLocations("con", 5)).thenReturn(List.of(
+                new LocationSuggestion("Conference Room A", 12),
+                new LocationSuggestion("Conference Room B", 4)));
+
+        mockMvc.perform(get("/events/locations").param("prefix", "con").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].location").value("Conference Room A"))
+                .andExpect(jsonPath("$[0].count").value(12));
+
+        verify(eventService, never()).getEventById(anyLong());
+    }
+
+    @Test
+    void suggestLocations_ShouldReturnBadRequestForInvalidLimit() throws Exception {
+        when(eventService.suggestLocations("con", 0)).thenThrow(new IllegalArgumentException("limit must be between 1 and 50"));
+
+        mockMvc.perform(get("/events/locations").param("prefix", "con").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getEventHistory_ShouldReturnEntriesWithRawEventState() throws Exception {
+        when(eventService.getEventHistory(1L, 42L, 10)).thenReturn(new EventHistoryPage(List.of(
+                new EventHistoryEntry(41L, 1L, "UPDATED", Instant.parse("2024-12-25T10:00:00Z"), "alice",
+                        "{\"title\":\"Old\"}", "{\"title\":\"New\"}")), 41L));
+
+        mockMvc.perform(get("/events/1/history").param("before", "42").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries[0].type").value("UPDATED"))
+                .andExpect(jsonPath("$.entries[0].clientActor").value("alice"))
+                .andExpect(jsonPath("$.entries[0].previous.title").value("Old"))
+                .andExpect(jsonPath("$.entries[0].current.title").value("New"))
+                .andExpect(jsonPath("$.nextBefore").value(41L));
+    }
+
     @Test
     void getEventById_ShouldReturnEventWhenExists() throws Exception {
         when(eventService.getEventById(1L)).thenReturn(savedEvent);
@@ -157,7 +293,8 @@ class EventControllerTest {
                 .thenThrow(new NoSuchElementException("Event with id: 999 does not exist"));
 
         mockMvc.perform(get("/events/999"))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.timestamp").value("2024-12-25T09:00:00"));
 
         verify(eventService, times(1)).getEventById(999L);
     }
@@ -178,6 +315,35 @@ class EventControllerTest {
         verify(eventService, times(1)).updateEvent(eq(1L), any(Event.class));
     }
 
+    @Test
+    void updateEvent_ShouldReturnAcceptedWhenCoalescedUpdateIsQueued() throws Exception {
+        when(eventMapper.toEntity(any(EventRequest.class))).thenReturn(testEvent);
+        when(writeCoalescer.isEnabled()).thenReturn(true);
+        when(writeCoalescer.update(eq(1L), any(Event.class))).thenReturn(WriteCoalescer.Acknowledgement.ACCEPTED);
+
+        mockMvc.perform(put("/events/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validEventRequest)))
+                .andExpect(status().isAccepted());
+
+        verify(eventService, never()).updateEvent(anyLong(), any(Event.class));
+    }
+
+    @Test
+    void updateEvent_ShouldReturnNoContentWhenCoalescedUpdateIsWritten() throws Exception {
+        when(eventMapper.toEntity(any(EventRequest.class))).thenReturn(testEvent);
+        when(writeCoalescer.isEnabled()).thenReturn(true);
+        when(writeCoalescer.update(eq(1L), any(Event.class))).thenReturn(WriteCoalescer.Acknowledgement.WRITTEN);
+
+        mockMvc.perform(put("/events/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validEventRequest)))
+                .andExpect(status().isNoContent());
+
+        verify(writeCoalescer, times(1)).update(eq(1L), any(Event.class));
+        verify(eventService, never()).updateEvent(anyLong(), any(Event.class));
+    }
+
     @Test
     void updateEvent_ShouldReturnBadRequestWhenValidationFails() throws Exception {
         doThrow(new IllegalArgumentException("End time must be after start time"))
@@ -248,6 +414,23 @@ class EventControllerTest {
         verify(eventService, times(1)).deleteEvent(999L);
     }
 
+    @Test
+    void saveEvent_ShouldReturnConflictListingBookedEvents() throws Exception {
+        when(eventMapper.toEntity(any(EventRequest.class))).thenReturn(testEvent);
+        when(eventService.saveEvent(any(Event.class)))
+                .thenThrow(new BookingConflictException("Test Location", List.of(createAnotherTestEvent())));
+
+        mockMvc.perform(post("/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validEventRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.message").value("Test Location is already booked at that time"))
+                .andExpect(jsonPath("$.conflicts.length()").value(1))
+                .andExpect(jsonPath("$.conflicts[0].id").value(2L))
+                .andExpect(jsonPath("$.conflicts[0].title").value("Another Event"));
+    }
+
     @Test
     void saveEvent_ShouldHandleMalformedJson() throws Exception {
         String malformedJson = "{ \"title\": \"Test\", \"startTime\": \"invalid-date\" }";
@@ -301,4 +484,13 @@ class EventControllerTest {
         event.setColor("#34a853");
         return event;
     }
-}
\ No newline at end of file
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class FixedClock {
+
+        @Bean
+        Clock clock() {
+            return Clock.fixed(Instant.parse("2024-12-25T09:00:00Z"), ZoneOffset.UTC);
+        }
+    }
+}
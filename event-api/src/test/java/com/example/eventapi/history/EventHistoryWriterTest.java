@@ -0,0 +1,153 @@
+package com.example.eventapi.history;
+
+import com.example.eventapi.service.EventChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventHistoryWriterTest {
+
+    @Mock
+    private EventHistoryQueries queries;
+
+    private final EventHistoryProperties properties = new EventHistoryProperties();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        properties.setQueueCapacity(100);
+        properties.setBatchSize(10);
+    }
+
+    @Test
+    void stop_ShouldWriteEverythingQueuedInBatches() {
+        List<Long> written = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<EventHistoryRecord> batch = invocation.getArgument(0);
+            assertTrue(batch.size() <= 10);
+            batch.forEach(record -> written.add(record.getEventId()));
+            return null;
+        }).when(queries).insert(anyList());
+        EventHistoryWriter writer = new EventHistoryWriter(queries, properties, meterRegistry);
+
+        for (long id = 1; id <= 25; id++) {
+            assertTrue(writer.offer(record(id)));
+        }
+        writer.start();
+        writer.stop();
+
+        assertEquals(25, written.size());
+        assertEquals(written.stream().sorted().toList(), written);
+        assertEquals(25, count("written"));
+        assertEquals(0, meterRegistry.get("events.history.queue.size").gauge().value());
+    }
+
+    @Test
+    void offer_ShouldDropWhenQueueIsFull() {
+        properties.setQueueCapacity(2);
+        EventHistoryWriter writer = new EventHistoryWriter(queries, properties, meterRegistry);
+
+        assertTrue(writer.offer(record(1)));
+        assertTrue(writer.offer(record(2)));
+        assertFalse(writer.offer(record(3)));
+
+        assertEquals(1, count("dropped"));
+        verifyNoInteractions(queries);
+    }
+
+    @Test
+    void failedBatch_ShouldBeCountedAndNotStopTheWriter() {
+        properties.setBatchSize(1);
+        List<Long> attempted = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<EventHistoryRecord> batch = invocation.getArgument(0);
+            attempted.add(batch.get(0).getEventId());
+            if (attempted.size() == 1) {
+                throw new DataAccessResourceFailureException("down");
+            }
+            return null;
+        }).when(queries).insert(anyList());
+        EventHistoryWriter writer = new EventHistoryWriter(queries, properties, meterRegistry);
+
+        writer.offer(record(1));
+        writer.offer(record(2));
+        writer.start();
+        writer.stop();
+
+        assertEquals(List.of(1L, 2L), attempted);
+        assertEquals(1, count("failed"));
+        assertEquals(1, count("written"));
+    }
+
+    @Test
+    void offer_ShouldRejectAndCountChangesAfterStop() {
+        EventHistoryWriter writer = new EventHistoryWriter(queries, properties, meterRegistry);
+        writer.start();
+        writer.stop();
+
+        assertFalse(writer.offer(record(1)));
+
+        assertEquals(1, count("lost"));
+        assertEquals(0, meterRegistry.get("events.history.queue.size").gauge().value());
+        verifyNoInteractions(queries);
+    }
+
+    @Test
+    void stop_ShouldCountBatchStillBeingInsertedAsLost() throws InterruptedException {
+        properties.setShutdownTimeout(Duration.ofMillis(100));
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            inserting.countDown();
+            // Like a statement that ignores the interrupt and is still running at the shutdown timeout
+            while (true) {
+                try {
+                    release.await();
+                    return null;
+                } catch (InterruptedException e) {
+                    // keep waiting
+                }
+            }
+        }).when(queries).insert(anyList());
+        EventHistoryWriter writer = new EventHistoryWriter(queries, properties, meterRegistry);
+        writer.offer(record(1));
+        writer.offer(record(2));
+        writer.start();
+        assertTrue(inserting.await(5, TimeUnit.SECONDS));
+        writer.offer(record(3));
+        try {
+            writer.stop();
+
+            assertEquals(3, count("lost"));
+            assertEquals(0, count("written"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("events.history.records").tag("outcome", outcome).counter().count();
+    }
+
+    private static EventHistoryRecord record(long eventId) {
+        return new EventHistoryRecord(eventId, EventChange.Type.UPDATED, Instant.parse("2024-12-25T10:00:00Z"),
+                "alice", "{\"title\":\"Old\"}", "{\"title\":\"New\"}");
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.eventapi.id;
+
+import com.example.eventapi.TestcontainersConfiguration;
+import com.example.eventapi.model.Event;
+import com.example.eventapi.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import({TestcontainersConfiguration.class, CustomIdGeneratorTest.CustomIds.class})
+@Testcontainers(disabledWithoutDocker = true)
+class CustomIdGeneratorTest {
+
+    private static final long FIRST_ID = 5_000_000_000L;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    void customGenerator_ShouldReplaceDefaultGeneratorAndLease() {
+        assertTrue(context.getBeansOfType(TimeOrderedIdGenerator.class).isEmpty());
+        assertTrue(context.getBeansOfType(NodeIdLease.class).isEmpty());
+    }
+
+    @Test
+    void save_ShouldTakeIdFromCustomGenerator() {
+        Event event = new Event();
+        event.setTitle("Custom id");
+        event.setStartTime(Instant.parse("2099-01-01T10:00:00Z"));
+        event.setEndTime(Instant.parse("2099-01-01T11:00:00Z"));
+
+        Event saved = eventRepository.save(event);
+
+        assertTrue(saved.getId() >= FIRST_ID);
+        eventRepository.deleteById(saved.getId());
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class CustomIds {
+
+        @Bean
+        IdGenerator sequentialIdGenerator() {
+            AtomicLong next = new AtomicLong(FIRST_ID);
+            return next::getAndIncrement;
+        }
+    }
+}
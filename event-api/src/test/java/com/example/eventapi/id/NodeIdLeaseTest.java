@@ -0,0 +1,140 @@
+package com.example.eventapi.id;
+
+import com.example.eventapi.TestcontainersConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class NodeIdLeaseTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private IdProperties properties;
+
+    private final List<NodeIdLease> leases = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (NodeIdLease lease : leases) {
+            if (lease.isRunning()) {
+                lease.stop();
+            }
+        }
+    }
+
+    @Test
+    void start_ShouldLeaseFreeNode() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.systemUTC());
+
+        start(generator, Clock.systemUTC());
+
+        int nodeId = generator.getNodeId();
+        assertTrue(nodeId >= 0);
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from id_node_lease " +
+                "where node_id = ? and owner is not null and expires_at > now(3)", Integer.class, nodeId));
+        assertEquals(nodeId, TimeOrderedIdGenerator.nodeOf(generator.nextId()));
+    }
+
+    @Test
+    void start_ShouldNotLeaseNodeHeldByAnotherInstance() {
+        TimeOrderedIdGenerator first = new TimeOrderedIdGenerator(Clock.systemUTC());
+        TimeOrderedIdGenerator second = new TimeOrderedIdGenerator(Clock.systemUTC());
+
+        start(first, Clock.systemUTC());
+        start(second, Clock.systemUTC());
+
+        assertNotEquals(first.getNodeId(), second.getNodeId());
+    }
+
+    @Test
+    void renew_ShouldExtendLeaseAndRecordLastId() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.systemUTC());
+        NodeIdLease lease = start(generator, Clock.systemUTC());
+        int nodeId = generator.getNodeId();
+        long id = generator.nextId();
+        Timestamp expiresAt = expiresAt(nodeId);
+
+        lease.renew();
+
+        assertEquals(nodeId, generator.getNodeId());
+        assertFalse(expiresAt(nodeId).before(expiresAt));
+        assertEquals(TimeOrderedIdGenerator.timestampOf(id).toEpochMilli(), lastIdMillis(nodeId));
+    }
+
+    @Test
+    void renew_ShouldLeaseNewNodeWhenLeaseWasLost() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.systemUTC());
+        NodeIdLease lease = start(generator, Clock.systemUTC());
+        int lostNodeId = generator.getNodeId();
+        jdbcTemplate.update("update id_node_lease set owner = 'another-instance', expires_at = now(3) + interval 1 minute " +
+                "where node_id = ?", lostNodeId);
+        try {
+            lease.renew();
+
+            assertNotEquals(lostNodeId, generator.getNodeId());
+            assertEquals(generator.getNodeId(), TimeOrderedIdGenerator.nodeOf(generator.nextId()));
+            assertEquals("another-instance", jdbcTemplate.queryForObject("select owner from id_node_lease where node_id = ?",
+                    String.class, lostNodeId));
+        } finally {
+            jdbcTemplate.update("update id_node_lease set owner = null, expires_at = '1970-01-01 00:00:01' where node_id = ?",
+                    lostNodeId);
+        }
+    }
+
+    @Test
+    void start_ShouldContinueAfterLastIdOfReleasedNode() {
+        TimeOrderedIdGenerator previous = new TimeOrderedIdGenerator(Clock.systemUTC());
+        NodeIdLease previousLease = start(previous, Clock.systemUTC());
+        int nodeId = previous.getNodeId();
+        long lastId = previous.nextId();
+
+        previousLease.stop();
+
+        assertEquals(TimeOrderedIdGenerator.timestampOf(lastId).toEpochMilli(), lastIdMillis(nodeId));
+
+        // Without the recorded last id, a clock running behind would issue older ids under the same node
+        Clock behind = Clock.offset(Clock.systemUTC(), Duration.ofSeconds(-10));
+        TimeOrderedIdGenerator next = new TimeOrderedIdGenerator(behind);
+        start(next, behind);
+
+        assertEquals(nodeId, next.getNodeId());
+        assertTrue(next.nextId() > lastId);
+    }
+
+    private NodeIdLease start(TimeOrderedIdGenerator generator, Clock clock) {
+        NodeIdLease lease = new NodeIdLease(generator, jdbcTemplate, new TransactionTemplate(transactionManager), clock, properties);
+        leases.add(lease);
+        lease.start();
+        return lease;
+    }
+
+    private Timestamp expiresAt(int nodeId) {
+        return jdbcTemplate.queryForObject("select expires_at from id_node_lease where node_id = ?", Timestamp.class, nodeId);
+    }
+
+    private long lastIdMillis(int nodeId) {
+        return jdbcTemplate.queryForObject("select last_id_millis from id_node_lease where node_id = ?", Long.class, nodeId);
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.eventapi.id;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimeOrderedIdGeneratorTest.class);
+
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @Test
+    void nextId_ShouldEncodeTimestampAndNode() {
+        Instant now = Instant.parse("2026-03-01T12:00:00.123Z");
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.fixed(now, ZoneOffset.UTC));
+        generator.lease(21, 0, Long.MAX_VALUE);
+
+        long id = generator.nextId();
+
+        assertEquals(now, TimeOrderedIdGenerator.timestampOf(id));
+        assertEquals(21, TimeOrderedIdGenerator.nodeOf(id));
+        assertTrue(id <= MAX_SAFE_INTEGER);
+    }
+
+    @Test
+    void nextId_ShouldStayBelowJavaScriptSafeIntegerAtEndOfRange() {
+        Instant last = TimeOrderedIdGenerator.EPOCH.plusMillis((1L << TimeOrderedIdGenerator.TIME_BITS) - 1);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.fixed(last, ZoneOffset.UTC));
+        generator.lease(TimeOrderedIdGenerator.MAX_NODES - 1, 0, Long.MAX_VALUE);
+
+        assertTrue(generator.nextId() <= MAX_SAFE_INTEGER);
+    }
+
+    @Test
+    void nextId_ShouldFailWithoutNodeLease() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.systemUTC());
+
+        assertThrows(IllegalStateException.class, generator::nextId);
+    }
+
+    @Test
+    void nextId_ShouldContinueAfterLastIdOfPreviousLeaseHolder() {
+        Instant now = Instant.parse("2026-03-01T12:00:00Z");
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.fixed(now, ZoneOffset.UTC));
+        long lastIdMillis = now.plusSeconds(2).toEpochMilli();
+        generator.lease(4, lastIdMillis, Long.MAX_VALUE);
+
+        long id = generator.nextId();
+
+        assertEquals(Instant.ofEpochMilli(lastIdMillis + 1), TimeOrderedIdGenerator.timestampOf(id));
+        assertEquals(lastIdMillis + 1, generator.lastIdMillis());
+    }
+
+    @Test
+    void nextId_ShouldFailOnceLeaseExpires() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-03-01T12:00:00Z"));
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock);
+        generator.lease(5, 0, clock.millis() + 1000);
+        assertDoesNotThrow(generator::nextId);
+
+        clock.millis.addAndGet(1000);
+        assertThrows(IllegalStateException.class, generator::nextId);
+
+        generator.extendLease(clock.millis() + 1000);
+        assertDoesNotThrow(generator::nextId);
+    }
+
+    @Test
+    void release_ShouldStopIdsAndReturnLastIdTime() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.systemUTC());
+        generator.lease(6, 0, Long.MAX_VALUE);
+        long id = generator.nextId();
+
+        assertEquals(TimeOrderedIdGenerator.timestampOf(id).toEpochMilli(), generator.release());
+        assertThrows(IllegalStateException.class, generator::nextId);
+    }
+
+    @Test
+    void nextId_ShouldStayMonotonicWhenSequenceOverflowsOrClockMovesBack() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-03-01T12:00:00Z"));
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock);
+        generator.lease(3, 0, Long.MAX_VALUE);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 1000; i++) {
+            if (i == 500) {
+                clock.millis.addAndGet(-5000);
+            }
+            long id = generator.nextId();
+            assertTrue(id > previous, "ids must increase");
+            assertEquals(3, TimeOrderedIdGenerator.nodeOf(id));
+            previous = id;
+        }
+    }
+
+    @Test
+    void nextId_ShouldBeUniqueAndIncreasingPerThreadUnderContention() throws Exception {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.systemUTC());
+        generator.lease(7, 0, Long.MAX_VALUE);
+        int threads = 8;
+        int perThread = 200_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] ids = new long[perThread];
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            Set<Long> all = new HashSet<>(threads * perThread * 2);
+            List<long[]> results = new ArrayList<>();
+            for (Future<long[]> future : futures) {
+                results.add(future.get());
+            }
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            for (long[] ids : results) {
+                for (int i = 0; i < ids.length; i++) {
+                    assertTrue(i == 0 || ids[i] > ids[i - 1], "ids must increase within a thread");
+                    assertTrue(all.add(ids[i]), "duplicate id " + ids[i]);
+                }
+            }
+            assertEquals(threads * perThread, all.size());
+            LOGGER.info("Generated {} ids on {} threads in {} ms", all.size(), threads, elapsedNanos / 1_000_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private final AtomicLong millis;
+
+        private MutableClock(Instant start) {
+            this.millis = new AtomicLong(start.toEpochMilli());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.eventapi.location;
+
+import com.example.eventapi.dto.LocationCount;
+import com.example.eventapi.dto.LocationSuggestion;
+import com.example.eventapi.model.Event;
+import com.example.eventapi.repository.EventRepository;
+import com.example.eventapi.service.EventChange;
+import com.example.eventapi.snapshot.EventReadModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocationIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventReadModel readModel;
+
+    private LocationIndex locationIndex;
+
+    @BeforeEach
+    void setUp() {
+        locationIndex = new LocationIndex(eventRepository, readModel);
+        when(eventRepository.countByLocation()).thenReturn(List.of(
+                locationCount("Conference Room A", 12),
+                locationCount("Conference Room B", 4),
+                locationCount("Coffee Corner", 7),
+                locationCount("Main Hall", 20)));
+        locationIndex.rebuild();
+    }
+
+    @Test
+    void suggest_ShouldRankMatchesByFrequency() {
+        assertEquals(List.of(
+                        new LocationSuggestion("Conference Room A", 12),
+                        new LocationSuggestion("Coffee Corner", 7),
+                        new LocationSuggestion("Conference Room B", 4)),
+                locationIndex.suggest("co", 10));
+    }
+
+    @Test
+    void suggest_ShouldIgnoreCaseAndApplyLimit() {
+        assertEquals(List.of(new LocationSuggestion("Conference Room A", 12)), locationIndex.suggest("CONF", 1));
+    }
+
+    @Test
+    void suggest_ShouldReturnMostUsedLocationsForEmptyPrefix() {
+        assertEquals(List.of(
+                        new LocationSuggestion("Main Hall", 20),
+                        new LocationSuggestion("Conference Room A", 12)),
+                locationIndex.suggest("", 2));
+    }
+
+    @Test
+    void suggest_ShouldReturnNothingWithoutMatches() {
+        assertTrue(locationIndex.suggest("zz", 10).isEmpty());
+    }
+
+    @Test
+    void onEventChange_ShouldUpdateCountsIncrementally() {
+        locationIndex.onEventChange(EventChange.created(event("Rooftop")));
+        locationIndex.onEventChange(EventChange.updated(event("Main Hall"), event("Coffee Corner")));
+        locationIndex.onEventChange(EventChange.deleted(event("Conference Room B")));
+
+        assertEquals(List.of(new LocationSuggestion("Rooftop", 1)), locationIndex.suggest("roo", 10));
+        assertEquals(List.of(new LocationSuggestion("Coffee Corner", 8)), locationIndex.suggest("coffee", 10));
+        assertEquals(List.of(new LocationSuggestion("Main Hall", 19)), locationIndex.suggest("main", 10));
+        assertEquals(List.of(new LocationSuggestion("Conference Room B", 3)), locationIndex.suggest("conference room b", 10));
+    }
+
+    @Test
+    void onEventChange_ShouldDropLocationsNoLongerUsed() {
+        locationIndex.onEventChange(EventChange.created(event("Rooftop")));
+        locationIndex.onEventChange(EventChange.deleted(event("rooftop")));
+
+        assertTrue(locationIndex.suggest("roof", 10).isEmpty());
+        assertEquals(4, locationIndex.size());
+    }
+
+    @Test
+    void rebuild_ShouldMergeCaseVariants() {
+        when(eventRepository.countByLocation()).thenReturn(List.of(
+                locationCount("Main Hall", 2),
+                locationCount("main hall", 3)));
+
+        locationIndex.rebuild();
+
+        assertEquals(List.of(new LocationSuggestion("Main Hall", 5)), locationIndex.suggest("ma", 10));
+    }
+
+    @Test
+    void rebuild_ShouldUseReadModelWhenLoaded() {
+        when(readModel.isReady()).thenReturn(true);
+        when(readModel.<Map<String, Integer>>read(any())).thenReturn(Map.of(
+                "Rooftop", 3,
+                " rooftop ", 2,
+                "", 9));
+
+        locationIndex.rebuild();
+
+        assertEquals(List.of(new LocationSuggestion("Rooftop", 5)), locationIndex.suggest("", 10));
+        verify(eventRepository, times(1)).countByLocation();
+    }
+
+    private static Event event(String location) {
+        Event event = new Event();
+        event.setId(1L);
+        event.setLocation(location);
+        return event;
+    }
+
+    private static LocationCount locationCount(String location, long count) {
+        return new LocationCount() {
+            @Override
+            public String getLocation() {
+                return location;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.eventapi.profiling;
+
+import com.example.eventapi.TestcontainersConfiguration;
+import com.example.eventapi.dto.EventRequest;
+import com.example.eventapi.model.Event;
+import com.example.eventapi.service.EventService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+
+import static com.example.eventapi.profiling.SqlStatementBudget.assertAtMost;
+import static com.example.eventapi.profiling.SqlStatementBudget.measure;
+import static com.example.eventapi.profiling.SqlStatementBudget.statementsAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "sql-profiler.expose-headers=true")
+@AutoConfigureMockMvc
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class EventSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Event savedEvent;
+
+    @BeforeEach
+    void setUp() {
+        savedEvent = eventService.saveEvent(createTestEvent());
+    }
+
+    @Test
+    void getAll_ShouldUseSingleStatement() throws Exception {
+        mockMvc.perform(get("/events"))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    void getAllWithFields_ShouldUseSingleStatement() throws Exception {
+        mockMvc.perform(get("/events").param("fields", "title,startTime"))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    void getById_ShouldUseSingleStatement() throws Exception {
+        mockMvc.perform(get("/events/{id}", savedEvent.getId()))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    void create_ShouldUseSingleStatement() throws Exception {
+        mockMvc.perform(post("/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createEventRequest())))
+                .andExpect(status().isCreated())
+                .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    void update_ShouldReadAndWriteOnce() throws Exception {
+        mockMvc.perform(put("/events/{id}", savedEvent.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createEventRequest())))
+                .andExpect(status().isNoContent())
+                .andExpect(statementsAtMost(2));
+    }
+
+    @Test
+    void delete_ShouldReadAndWriteOnce() throws Exception {
+        mockMvc.perform(delete("/events/{id}", savedEvent.getId()))
+                .andExpect(status().isNoContent())
+                .andExpect(statementsAtMost(2));
+    }
+
+    @Test
+    void response_ShouldExposeSqlStatistics() throws Exception {
+        mockMvc.perform(get("/events/{id}", savedEvent.getId()))
+                .andExpect(header().exists(SqlProfilingFilter.ROWS_HEADER))
+                .andExpect(header().exists(SqlProfilingFilter.TIME_HEADER));
+    }
+
+    @Test
+    void getAllEvents_ShouldNotIssueStatementPerEvent() {
+        for (int i = 0; i < 10; i++) {
+            eventService.saveEvent(createTestEvent());
+        }
+
+        assertAtMost(1, () -> eventService.getAllEvents().forEach(Event::getTitle));
+    }
+
+    @Test
+    void measure_ShouldCountStatementsAndRows() {
+        SqlStatistics statistics = measure(() -> eventService.saveEvent(createTestEvent()));
+
+        assertEquals(1, statistics.getStatements());
+        assertEquals(1, statistics.getRows());
+    }
+
+    private EventRequest createEventRequest() {
+        EventRequest request = new EventRequest();
+        request.setTitle("Budget Event");
+        request.setDescription("Test Description");
+        request.setStartTime(Instant.parse("2024-12-25T10:00:00Z"));
+        request.setEndTime(Instant.parse("2024-12-25T12:00:00Z"));
+        request.setLocation("Test Location");
+        request.setColor("#1a73e8");
+        return request;
+    }
+
+    private Event createTestEvent() {
+        Event event = new Event();
+        event.setTitle("Budget Event");
+        event.setDescription("Test Description");
+        event.setStartTime(Instant.parse("2024-12-25T10:00:00Z"));
+        event.setEndTime(Instant.parse("2024-12-25T12:00:00Z"));
+        event.setLocation("Test Location");
+        event.setColor("#1a73e8");
+        return event;
+    }
+}
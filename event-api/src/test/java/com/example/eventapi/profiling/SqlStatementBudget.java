@@ -0,0 +1,47 @@
+package com.example.eventapi.profiling;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round-trip budgets for tests: fails when a block of code or a request executes more SQL statements than
+ * allowed, which is how N+1 regressions show up.
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    public static SqlStatistics measure(Runnable action) {
+        SqlStatistics statistics = SqlStatisticsHolder.start();
+        try {
+            action.run();
+        } finally {
+            SqlStatisticsHolder.stop();
+        }
+        return statistics;
+    }
+
+    public static SqlStatistics assertAtMost(int maxStatements, Runnable action) {
+        SqlStatistics statistics = measure(action);
+        assertTrue(statistics.getStatements() <= maxStatements,
+                () -> String.format("Expected at most %d SQL statements but got %s", maxStatements, statistics));
+        return statistics;
+    }
+
+    /**
+     * Checks the {@code X-Sql-Statements} header written by {@link SqlProfilingFilter}.
+     */
+    public static ResultMatcher statementsAtMost(int maxStatements) {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlProfilingFilter.STATEMENTS_HEADER);
+            assertNotNull(header, "Missing " + SqlProfilingFilter.STATEMENTS_HEADER + " header");
+            int statements = Integer.parseInt(header);
+            assertTrue(statements <= maxStatements,
+                    () -> String.format("Expected at most %d SQL statements for %s %s but got %d",
+                            maxStatements, result.getRequest().getMethod(), result.getRequest().getRequestURI(), statements));
+        };
+    }
+}
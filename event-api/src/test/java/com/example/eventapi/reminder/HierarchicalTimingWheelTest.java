@@ -0,0 +1,92 @@
+package com.example.eventapi.reminder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private HierarchicalTimingWheel<Long, String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimingWheel<>(10, 8, START);
+    }
+
+    @Test
+    void advance_ShouldReturnTimerOnlyOnceItsTickIsReached() {
+        wheel.schedule(1L, "first", START + 50);
+
+        assertTrue(wheel.advance(START + 40).isEmpty());
+        assertEquals(List.of("first"), wheel.advance(START + 50));
+        assertTrue(wheel.advance(START + 100).isEmpty());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_ShouldCascadeTimersFromHigherLevels() {
+        // Level 0 covers 80ms, level 1 640ms, level 2 5120ms
+        wheel.schedule(1L, "level-1", START + 300);
+        wheel.schedule(2L, "level-2", START + 4_000);
+
+        List<String> expired = new ArrayList<>();
+        long expiredLevel1At = -1;
+        long expiredLevel2At = -1;
+        for (long now = START; now <= START + 5_000; now += 10) {
+            List<String> batch = wheel.advance(now);
+            if (batch.contains("level-1")) {
+                expiredLevel1At = now;
+            }
+            if (batch.contains("level-2")) {
+                expiredLevel2At = now;
+            }
+            expired.addAll(batch);
+        }
+
+        assertEquals(List.of("level-1", "level-2"), expired);
+        assertEquals(START + 300, expiredLevel1At);
+        assertEquals(START + 4_000, expiredLevel2At);
+    }
+
+    @Test
+    void advance_ShouldExpireEverythingDueWhenClockJumps() {
+        wheel.schedule(1L, "a", START + 30);
+        wheel.schedule(2L, "b", START + 700);
+        wheel.schedule(3L, "c", START + 9_000);
+
+        assertEquals(List.of("a", "b"), wheel.advance(START + 1_000));
+        assertEquals(List.of("c"), wheel.advance(START + 10_000));
+    }
+
+    @Test
+    void schedule_ShouldReturnOverdueTimerOnNextAdvance() {
+        wheel.schedule(1L, "overdue", START - 500);
+
+        assertEquals(List.of("overdue"), wheel.advance(START));
+    }
+
+    @Test
+    void cancel_ShouldPreventTimerFromExpiring() {
+        wheel.schedule(1L, "cancelled", START + 300);
+
+        assertTrue(wheel.cancel(1L));
+        assertFalse(wheel.cancel(1L));
+        assertTrue(wheel.advance(START + 1_000).isEmpty());
+    }
+
+    @Test
+    void schedule_ShouldReplaceTimerWithSameKey() {
+        wheel.schedule(1L, "old", START + 100);
+        wheel.schedule(1L, "new", START + 200);
+
+        assertEquals(1, wheel.size());
+        assertTrue(wheel.advance(START + 150).isEmpty());
+        assertEquals(List.of("new"), wheel.advance(START + 200));
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.eventapi.reminder;
+
+import com.example.eventapi.dto.ReminderCandidate;
+import com.example.eventapi.model.Event;
+import com.example.eventapi.repository.EventRepository;
+import com.example.eventapi.service.EventChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderSchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-15T09:00:00Z");
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private Clock clock;
+
+    private InMemoryReminderSink reminderSink;
+
+    private ReminderScheduler reminderScheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        reminderSink = new InMemoryReminderSink();
+        reminderScheduler = new ReminderScheduler(eventRepository, reminderSink, new ReminderProperties(), clock);
+    }
+
+    @Test
+    void refill_ShouldScheduleOnlyRemindersDueWithinHorizon() {
+        when(eventRepository.findReminderCandidates(NOW, NOW.plus(Duration.ofHours(1)).plus(Duration.ofDays(1))))
+                .thenReturn(List.of(
+                        candidate(1L, NOW.plus(Duration.ofMinutes(40)), 10),
+                        candidate(2L, NOW.plus(Duration.ofMinutes(90)), 10)));
+
+        reminderScheduler.refill();
+
+        assertEquals(1, reminderScheduler.getScheduledCount());
+    }
+
+    @Test
+    void tick_ShouldDeliverReminderWhenDue() {
+        when(eventRepository.findReminderCandidates(any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of(candidate(1L, NOW.plus(Duration.ofMinutes(40)), 10)));
+        reminderScheduler.refill();
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(29)));
+        reminderScheduler.tick();
+        assertTrue(reminderSink.getDelivered().isEmpty());
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(30)));
+        reminderScheduler.tick();
+
+        assertEquals(1, reminderSink.getDelivered().size());
+        Reminder reminder = reminderSink.getDelivered().get(0);
+        assertEquals(1L, reminder.getEventId());
+        assertEquals(NOW.plus(Duration.ofMinutes(30)), reminder.getRemindAt());
+    }
+
+    @Test
+    void onEventChange_ShouldRescheduleUpdatedEvent() {
+        when(eventRepository.findReminderCandidates(any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of(candidate(1L, NOW.plus(Duration.ofMinutes(40)), 10)));
+        reminderScheduler.refill();
+
+        Event updated = createEvent(1L, NOW.plus(Duration.ofMinutes(20)), 5);
+        reminderScheduler.onEventChange(EventChange.updated(createEvent(1L, NOW.plus(Duration.ofMinutes(40)), 10), updated));
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(15)));
+        reminderScheduler.tick();
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(45)));
+        reminderScheduler.tick();
+
+        assertEquals(1, reminderSink.getDelivered().size());
+        assertEquals(NOW.plus(Duration.ofMinutes(15)), reminderSink.getDelivered().get(0).getRemindAt());
+    }
+
+    @Test
+    void onEventChange_ShouldCancelReminderOfDeletedEvent() {
+        when(eventRepository.findReminderCandidates(any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of(candidate(1L, NOW.plus(Duration.ofMinutes(40)), 10)));
+        reminderScheduler.refill();
+
+        reminderScheduler.onEventChange(EventChange.deleted(createEvent(1L, NOW.plus(Duration.ofMinutes(40)), 10)));
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(45)));
+        reminderScheduler.tick();
+
+        assertEquals(0, reminderScheduler.getScheduledCount());
+        assertTrue(reminderSink.getDelivered().isEmpty());
+    }
+
+    @Test
+    void onEventChange_ShouldLeaveRemindersBeyondHorizonToRefill() {
+        reminderScheduler.onEventChange(EventChange.created(createEvent(1L, NOW.plus(Duration.ofMinutes(40)), 10)));
+
+        assertEquals(0, reminderScheduler.getScheduledCount());
+        verify(eventRepository, never()).findReminderCandidates(any(Instant.class), any(Instant.class));
+    }
+
+    private ReminderCandidate candidate(Long id, Instant startTime, int reminderMinutes) {
+        return new ReminderCandidate() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return "Event " + id;
+            }
+
+            @Override
+            public Instant getStartTime() {
+                return startTime;
+            }
+
+            @Override
+            public Integer getReminderMinutes() {
+                return reminderMinutes;
+            }
+        };
+    }
+
+    private Event createEvent(Long id, Instant startTime, int reminderMinutes) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Event " + id);
+        event.setStartTime(startTime);
+        event.setEndTime(startTime.plus(Duration.ofHours(1)));
+        event.setReminderMinutes(reminderMinutes);
+        return event;
+    }
+}
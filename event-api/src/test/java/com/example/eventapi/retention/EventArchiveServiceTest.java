@@ -0,0 +1,96 @@
+package com.example.eventapi.retention;
+
+import com.example.eventapi.model.ArchivedEvent;
+import com.example.eventapi.repository.EventArchiveRepository;
+import com.example.eventapi.repository.EventRepository;
+import com.example.eventapi.service.EventChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventArchiveServiceTest {
+
+    private static final Instant CUTOFF = Instant.parse("2025-10-01T00:00:00Z");
+
+    @Mock
+    private EventArchiveRepository eventArchiveRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EventArchiveService eventArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        eventArchiveService = new EventArchiveService(eventArchiveRepository, eventRepository, new RetentionProperties(),
+                Clock.fixed(CUTOFF, ZoneOffset.UTC), eventPublisher);
+    }
+
+    @Test
+    void archiveBatch_ShouldPublishArchivedChangeForEveryMovedEvent() {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(eventArchiveRepository.copyFromEvents(ids, CUTOFF)).thenReturn(2);
+        when(eventRepository.deleteArchived(ids, CUTOFF)).thenReturn(2);
+        when(eventArchiveRepository.findAllById(ids)).thenReturn(List.of(archived(1L), archived(3L)));
+
+        assertEquals(2, eventArchiveService.archiveBatch(ids, CUTOFF));
+
+        ArgumentCaptor<EventChange> changes = ArgumentCaptor.forClass(EventChange.class);
+        verify(eventPublisher, times(2)).publishEvent(changes.capture());
+        assertEquals(List.of(1L, 3L), changes.getAllValues().stream().map(EventChange::getEventId).toList());
+        for (EventChange change : changes.getAllValues()) {
+            assertEquals(EventChange.Type.ARCHIVED, change.getType());
+            assertEquals(change.getEventId(), change.getPrevious().getId());
+            assertNull(change.getCurrent());
+        }
+    }
+
+    @Test
+    void archiveBatch_ShouldNotPublishWhenNothingWasMoved() {
+        List<Long> ids = List.of(1L);
+        when(eventArchiveRepository.copyFromEvents(ids, CUTOFF)).thenReturn(0);
+        when(eventRepository.deleteArchived(ids, CUTOFF)).thenReturn(0);
+
+        assertEquals(0, eventArchiveService.archiveBatch(ids, CUTOFF));
+
+        verify(eventArchiveRepository, never()).findAllById(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void archiveBatch_ShouldFailWithoutPublishingWhenCopyAndDeleteDiffer() {
+        List<Long> ids = List.of(1L, 2L);
+        when(eventArchiveRepository.copyFromEvents(ids, CUTOFF)).thenReturn(2);
+        when(eventRepository.deleteArchived(ids, CUTOFF)).thenReturn(1);
+
+        assertThrows(IllegalStateException.class, () -> eventArchiveService.archiveBatch(ids, CUTOFF));
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static ArchivedEvent archived(Long id) {
+        ArchivedEvent archived = new ArchivedEvent();
+        archived.setId(id);
+        archived.setTitle("Archived " + id);
+        archived.setStartTime(CUTOFF.minusSeconds(7200));
+        archived.setEndTime(CUTOFF.minusSeconds(3600));
+        return archived;
+    }
+}
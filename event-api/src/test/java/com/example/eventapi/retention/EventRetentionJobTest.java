@@ -0,0 +1,99 @@
+package com.example.eventapi.retention;
+
+import com.example.eventapi.dto.ArchiveCandidate;
+import com.example.eventapi.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventRetentionJobTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-01T00:00:00Z");
+
+    private static final Instant CUTOFF = NOW.minus(Duration.ofDays(365));
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventArchiveService eventArchiveService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RetentionProperties properties;
+
+    private EventRetentionJob eventRetentionJob;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RetentionProperties();
+        properties.setBatchSize(2);
+        properties.setBatchPause(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        eventRetentionJob = new EventRetentionJob(eventRepository, eventArchiveService, properties,
+                Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry);
+    }
+
+    @Test
+    void run_ShouldArchiveInKeysetBatchesUntilNoCandidatesRemain() {
+        Instant firstEnd = Instant.parse("2025-09-15T11:00:00Z");
+        Instant secondEnd = Instant.parse("2025-09-20T16:00:00Z");
+        when(eventRepository.findArchiveCandidates(eq(CUTOFF), eq(Instant.EPOCH), eq(0L), any()))
+                .thenReturn(List.of(candidate(1L, firstEnd), candidate(2L, secondEnd)));
+        when(eventRepository.findArchiveCandidates(eq(CUTOFF), eq(secondEnd), eq(2L), any()))
+                .thenReturn(List.of(candidate(3L, secondEnd)));
+        when(eventArchiveService.archiveBatch(List.of(1L, 2L), CUTOFF)).thenReturn(2);
+        when(eventArchiveService.archiveBatch(List.of(3L), CUTOFF)).thenReturn(1);
+
+        eventRetentionJob.run();
+
+        RetentionProgress progress = eventRetentionJob.getProgress();
+        assertFalse(progress.isRunning());
+        assertEquals(CUTOFF, progress.getCutoff());
+        assertEquals(3, progress.getArchivedInLastRun());
+        assertEquals(3, progress.getArchivedTotal());
+        assertEquals(3, meterRegistry.get("events.retention.archived").counter().count());
+        assertEquals(2, meterRegistry.get("events.retention.batch").timer().count());
+        verify(eventArchiveService, times(1)).refreshArchivedUntil();
+    }
+
+    @Test
+    void run_ShouldDoNothingWhenDisabled() {
+        properties.setEnabled(false);
+
+        eventRetentionJob.run();
+
+        verify(eventRepository, never()).findArchiveCandidates(any(), any(), any(), any());
+        verify(eventArchiveService, never()).archiveBatch(anyList(), any());
+    }
+
+    private ArchiveCandidate candidate(Long id, Instant endTime) {
+        return new ArchiveCandidate() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Instant getEndTime() {
+                return endTime;
+            }
+        };
+    }
+}
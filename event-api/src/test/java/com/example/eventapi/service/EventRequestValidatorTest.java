@@ -1,6 +1,10 @@
 package com.example.eventapi.service;
 
 import com.example.eventapi.dto.EventRequest;
+import com.example.eventapi.validation.EventValidationCode;
+import com.example.eventapi.validation.EventValidationException;
+import com.example.eventapi.validation.FieldViolation;
+import com.example.eventapi.validation.ValidationResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -124,6 +129,68 @@ public class EventRequestValidatorTest {
         assertEquals("Color must be a valid hex color code (e.g., #6f42c1)", exception.getMessage());
     }
 
+    @Test
+    void validate_ShouldThrowStacklessExceptionWithFieldViolations() {
+        EventRequest request = createEventRequest();
+        request.setColor("#12345g");
+
+        EventValidationException exception = assertThrows(
+                EventValidationException.class,
+                () -> eventRequestValidator.validate(request)
+        );
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(List.of(new FieldViolation("color", "INVALID_COLOR", "Color must be a valid hex color code (e.g., #6f42c1)")),
+                exception.getResult().getViolations());
+    }
+
+    @Test
+    void check_ShouldReportEveryViolationInRuleOrder() {
+        EventRequest request = new EventRequest();
+        request.setTitle("");
+        request.setEndTime(Instant.now());
+        request.setColor("red");
+        request.setReminderMinutes(EventRequest.MAX_REMINDER_MINUTES + 1);
+
+        ValidationResult result = eventRequestValidator.check(request);
+
+        assertEquals(List.of("TITLE_EMPTY", "START_TIME_REQUIRED", "INVALID_COLOR", "REMINDER_TOO_EARLY"),
+                result.getViolations().stream().map(FieldViolation::getCode).toList());
+        assertEquals("title cannot be empty; start time cannot be null; Color must be a valid hex color code (e.g., #6f42c1); " +
+                "reminder cannot be set more than 1440 minutes before start", result.getMessage());
+    }
+
+    @Test
+    void check_ShouldReturnSharedResults() {
+        EventRequest invalid = createEventRequest();
+        invalid.setColor("invalid");
+
+        assertSame(ValidationResult.VALID, eventRequestValidator.check(validRequest));
+        assertSame(eventRequestValidator.check(invalid), eventRequestValidator.check(invalid));
+        assertTrue(eventRequestValidator.check(invalid).has(EventValidationCode.INVALID_COLOR));
+    }
+
+    @Test
+    void check_ShouldRejectNonAsciiHexDigits() {
+        EventRequest request = createEventRequest();
+        request.setColor("#\uFF11\uFF12\uFF13456");
+
+        assertTrue(eventRequestValidator.check(request).has(EventValidationCode.INVALID_COLOR));
+    }
+
+    @Test
+    void checkAll_ShouldReturnOneResultPerItem() {
+        EventRequest invalid = createEventRequest();
+        invalid.setReminderMinutes(-1);
+
+        List<ValidationResult> results = eventRequestValidator.checkAll(List.of(validRequest, invalid, validRequest));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isValid());
+        assertTrue(results.get(1).has(EventValidationCode.REMINDER_NEGATIVE));
+        assertTrue(results.get(2).isValid());
+    }
+
     private EventRequest createEventRequest() {
         EventRequest request = new EventRequest();
         request.setTitle("Test Event");
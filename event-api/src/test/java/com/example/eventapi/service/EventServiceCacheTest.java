@@ -0,0 +1,121 @@
+package com.example.eventapi.service;
+
+import com.example.eventapi.TestcontainersConfiguration;
+import com.example.eventapi.model.Event;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class EventServiceCacheTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Event savedEvent;
+
+    @BeforeEach
+    void setUp() {
+        savedEvent = eventService.saveEvent(createTestEvent());
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getEventById_ShouldQueryDatabaseOnlyOnceForRepeatedReads() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(savedEvent.getTitle(), eventService.getEventById(savedEvent.getId()).getTitle());
+        }
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(4, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void getEventsBetween_ShouldQueryDatabaseOnlyOnceForRepeatedReads() {
+        assertTrue(containsTitle(eventsAroundSavedEvent(), savedEvent.getTitle()));
+        statistics.clear();
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(containsTitle(eventsAroundSavedEvent(), savedEvent.getTitle()));
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(4, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void getAllEvents_ShouldNotUseQueryCache() {
+        eventService.getAllEvents();
+        eventService.getAllEvents();
+
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getQueryCachePutCount());
+    }
+
+    @Test
+    void updateEvent_ShouldNeverServeStaleCachedEvent() {
+        eventService.getEventById(savedEvent.getId());
+        eventsAroundSavedEvent();
+
+        Event newEvent = createTestEvent();
+        newEvent.setTitle("Updated Cached Event");
+        eventService.updateEvent(savedEvent.getId(), newEvent);
+
+        assertEquals("Updated Cached Event", eventService.getEventById(savedEvent.getId()).getTitle());
+        assertTrue(containsTitle(eventsAroundSavedEvent(), "Updated Cached Event"));
+        assertFalse(containsTitle(eventsAroundSavedEvent(), "Cached Event"));
+    }
+
+    @Test
+    void deleteEvent_ShouldNeverServeDeletedCachedEvent() {
+        eventService.getEventById(savedEvent.getId());
+        eventsAroundSavedEvent();
+
+        eventService.deleteEvent(savedEvent.getId());
+
+        assertThrows(NoSuchElementException.class, () -> eventService.getEventById(savedEvent.getId()));
+        assertTrue(eventsAroundSavedEvent().stream().noneMatch(event -> event.getId().equals(savedEvent.getId())));
+    }
+
+    private List<Event> eventsAroundSavedEvent() {
+        return eventService.getEventsBetween(savedEvent.getStartTime().minusSeconds(3600), savedEvent.getEndTime().plusSeconds(3600));
+    }
+
+    private boolean containsTitle(List<Event> events, String title) {
+        return events.stream()
+                .anyMatch(event -> event.getId().equals(savedEvent.getId()) && event.getTitle().equals(title));
+    }
+
+    private Event createTestEvent() {
+        Event event = new Event();
+        event.setTitle("Cached Event");
+        event.setDescription("Test Description");
+        // In the future, so the window never reaches back into the archive
+        event.setStartTime(Instant.parse("2099-12-25T10:00:00Z"));
+        event.setEndTime(Instant.parse("2099-12-25T12:00:00Z"));
+        event.setLocation("Test Location");
+        event.setColor("#1a73e8");
+        return event;
+    }
+}
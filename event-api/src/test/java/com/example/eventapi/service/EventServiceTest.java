@@ -1,19 +1,40 @@
 package com.example.eventapi.service;
 
+import com.example.eventapi.booking.BookingConflictException;
+import com.example.eventapi.booking.BookingGuard;
+import com.example.eventapi.coalescing.ReadCoalescer;
+import com.example.eventapi.coalescing.ReadCoalescingProperties;
+import com.example.eventapi.dto.EventField;
+import com.example.eventapi.dto.EventHistoryEntry;
+import com.example.eventapi.dto.EventHistoryPage;
+import com.example.eventapi.dto.LocationSuggestion;
+import com.example.eventapi.history.EventHistoryProperties;
+import com.example.eventapi.history.EventHistoryQueries;
+import com.example.eventapi.location.LocationIndex;
+import com.example.eventapi.location.LocationIndexProperties;
 import com.example.eventapi.model.Event;
 import com.example.eventapi.repository.EventRepository;
+import com.example.eventapi.retention.EventArchiveService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -25,6 +46,31 @@ class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EventArchiveService eventArchiveService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ReadCoalescer readCoalescer = new ReadCoalescer(new ReadCoalescingProperties(),
+            TransactionOperations.withoutTransaction(), new SimpleMeterRegistry());
+
+    @Mock
+    private LocationIndex locationIndex;
+
+    @Spy
+    private LocationIndexProperties locationIndexProperties = new LocationIndexProperties();
+
+    @Mock
+    private BookingGuard bookingGuard;
+
+    @Mock
+    private EventHistoryQueries eventHistoryQueries;
+
+    @Spy
+    private EventHistoryProperties eventHistoryProperties = new EventHistoryProperties();
+
     @InjectMocks
     private EventService eventService;
 
@@ -53,6 +99,18 @@ class EventServiceTest {
         assertEquals(savedEvent.getColor(), result.getColor());
 
         verify(eventRepository, times(1)).save(testEvent);
+        verify(eventPublisher, times(1)).publishEvent(EventChange.created(savedEvent));
+    }
+
+    @Test
+    void saveEvent_ShouldNotSaveWhenLocationIsBooked() {
+        doThrow(new BookingConflictException("Test Location", List.of(savedEvent)))
+                .when(bookingGuard).check(testEvent, null);
+
+        assertThrows(BookingConflictException.class, () -> eventService.saveEvent(testEvent));
+
+        verify(eventRepository, never()).save(any(Event.class));
+        verify(eventPublisher, never()).publishEvent(any(EventChange.class));
     }
 
     @Test
@@ -81,6 +139,20 @@ class EventServiceTest {
         verify(eventRepository, times(1)).findAll();
     }
 
+    @Test
+    void getAllEventsWithFields_ShouldReturnProjectedRows() {
+        Set<EventField> fields = EnumSet.of(EventField.ID, EventField.TITLE);
+        List<Map<String, Object>> expectedRows = List.of(Map.of("id", 1L, "title", "Test Event"));
+        when(eventRepository.findAllWithFields(fields)).thenReturn(expectedRows);
+
+        List<Map<String, Object>> result = eventService.getAllEvents(fields);
+
+        assertEquals(expectedRows, result);
+
+        verify(eventRepository, times(1)).findAllWithFields(fields);
+        verify(eventRepository, never()).findAll();
+    }
+
     @Test
     void getEventById_ShouldReturnEventWhenExists() {
         Long eventId = 1L;
@@ -94,6 +166,136 @@ class EventServiceTest {
         verify(eventRepository, times(1)).findById(eventId);
     }
 
+    @Test
+    void getEventById_ShouldFallBackToArchive() {
+        Long eventId = 1L;
+        when(eventRepository.findById(eventId)).thenReturn(Optional.empty());
+        when(eventArchiveService.findById(eventId)).thenReturn(Optional.of(savedEvent));
+
+        Event result = eventService.getEventById(eventId);
+
+        assertEquals(savedEvent, result);
+    }
+
+    @Test
+    void getEventsBetween_ShouldReadOnlyHotTableForRecentWindow() {
+        Instant from = Instant.parse("2024-12-25T00:00:00Z");
+        Instant to = Instant.parse("2024-12-27T00:00:00Z");
+        when(eventRepository.findOverlapping(from, to)).thenReturn(List.of(savedEvent));
+        when(eventArchiveService.covers(from)).thenReturn(false);
+
+        List<Event> result = eventService.getEventsBetween(from, to);
+
+        assertEquals(List.of(savedEvent), result);
+        verify(eventArchiveService, never()).findOverlapping(any(Instant.class), any(Instant.class));
+    }
+
+    @Test
+    void getEventsBetween_ShouldMergeArchivedEventsWhenWindowReachesArchive() {
+        Instant from = Instant.parse("2024-12-25T00:00:00Z");
+        Instant to = Instant.parse("2024-12-27T00:00:00Z");
+        Event archivedEvent = createTestEvent();
+        archivedEvent.setId(3L);
+        archivedEvent.setStartTime(Instant.parse("2024-12-25T08:00:00Z"));
+        when(eventRepository.findOverlapping(from, to)).thenReturn(List.of(createAnotherTestEvent(), savedEvent));
+        when(eventArchiveService.covers(from)).thenReturn(true);
+        when(eventArchiveService.findOverlapping(from, to)).thenReturn(List.of(archivedEvent));
+
+        List<Event> result = eventService.getEventsBetween(from, to);
+
+        assertEquals(List.of(3L, 1L, 2L), result.stream().map(Event::getId).toList());
+    }
+
+    @Test
+    void getEventsBetweenWithFields_ShouldSelectOnlyRequestedColumns() {
+        Instant from = Instant.parse("2024-12-25T00:00:00Z");
+        Instant to = Instant.parse("2024-12-27T00:00:00Z");
+        Set<EventField> fields = EnumSet.of(EventField.ID, EventField.TITLE);
+        List<Map<String, Object>> expectedRows = List.of(Map.of("id", 1L, "title", "Test Event"));
+        when(eventArchiveService.covers(from)).thenReturn(false);
+        when(eventRepository.findOverlappingWithFields(from, to, fields)).thenReturn(expectedRows);
+
+        assertEquals(expectedRows, eventService.getEventsBetween(from, to, fields));
+        verify(eventRepository, never()).findOverlapping(any(Instant.class), any(Instant.class));
+    }
+
+    @Test
+    void getEventsBetweenWithFields_ShouldMergeArchivedRowsByStartTime() {
+        Instant from = Instant.parse("2024-12-25T00:00:00Z");
+        Instant to = Instant.parse("2024-12-27T00:00:00Z");
+        Set<EventField> fields = EnumSet.of(EventField.ID, EventField.TITLE);
+        Set<EventField> selected = EnumSet.of(EventField.ID, EventField.TITLE, EventField.START_TIME);
+        when(eventArchiveService.covers(from)).thenReturn(true);
+        when(eventRepository.findOverlappingWithFields(from, to, selected)).thenReturn(List.of(
+                row(1L, "Hot", "2024-12-25T10:00:00Z")));
+        when(eventArchiveService.findOverlapping(from, to, selected)).thenReturn(List.of(
+                row(3L, "Archived", "2024-12-25T08:00:00Z")));
+
+        List<Map<String, Object>> result = eventService.getEventsBetween(from, to, fields);
+
+        assertEquals(List.of(Map.of("id", 3L, "title", "Archived"), Map.of("id", 1L, "title", "Hot")), result);
+    }
+
+    @Test
+    void suggestLocations_ShouldUseDefaultLimit() {
+        List<LocationSuggestion> suggestions = List.of(new LocationSuggestion("Room A", 3));
+        when(locationIndex.suggest("ro", 10)).thenReturn(suggestions);
+
+        assertEquals(suggestions, eventService.suggestLocations("ro", null));
+    }
+
+    @Test
+    void suggestLocations_ShouldTreatMissingPrefixAsEmpty() {
+        eventService.suggestLocations(null, 5);
+
+        verify(locationIndex, times(1)).suggest("", 5);
+    }
+
+    @Test
+    void suggestLocations_ShouldRejectLimitOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> eventService.suggestLocations("ro", 0));
+        assertThrows(IllegalArgumentException.class, () -> eventService.suggestLocations("ro", 51));
+
+        verifyNoInteractions(locationIndex);
+    }
+
+    @Test
+    void getEventHistory_ShouldReturnCursorWhenMoreEntriesExist() {
+        when(eventHistoryQueries.findPage(1L, null, 3)).thenReturn(List.of(historyEntry(9L), historyEntry(7L), historyEntry(4L)));
+
+        EventHistoryPage page = eventService.getEventHistory(1L, null, 2);
+
+        assertEquals(List.of(9L, 7L), page.getEntries().stream().map(EventHistoryEntry::getId).toList());
+        assertEquals(7L, page.getNextBefore());
+    }
+
+    @Test
+    void getEventHistory_ShouldReturnNoCursorOnLastPage() {
+        when(eventHistoryQueries.findPage(1L, 7L, 21)).thenReturn(List.of(historyEntry(4L)));
+
+        EventHistoryPage page = eventService.getEventHistory(1L, 7L, null);
+
+        assertEquals(1, page.getEntries().size());
+        assertNull(page.getNextBefore());
+    }
+
+    @Test
+    void getEventHistory_ShouldRejectLimitOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEventHistory(1L, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEventHistory(1L, null, 101));
+
+        verifyNoInteractions(eventHistoryQueries);
+    }
+
+    @Test
+    void getEventsBetween_ShouldRejectEmptyWindow() {
+        Instant time = Instant.parse("2024-12-25T00:00:00Z");
+
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEventsBetween(time, time));
+
+        verify(eventRepository, never()).findOverlapping(any(Instant.class), any(Instant.class));
+    }
+
     @Test
     void getEventById_ShouldThrowExceptionWhenEventNotFound() {
         Long eventId = 999L;
@@ -113,6 +315,7 @@ class EventServiceTest {
     void updateEvent_ShouldUpdateExistingEvent() {
         Long eventId = 1L;
         Event updatedEventData = createUpdatedEventData();
+        Event previous = savedEvent.copy();
 
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(savedEvent));
         when(eventRepository.save(any(Event.class))).thenReturn(savedEvent);
@@ -125,9 +328,12 @@ class EventServiceTest {
         assertEquals(updatedEventData.getEndTime(), savedEvent.getEndTime());
         assertEquals(updatedEventData.getLocation(), savedEvent.getLocation());
         assertEquals(updatedEventData.getColor(), savedEvent.getColor());
+        assertEquals(updatedEventData.getReminderMinutes(), savedEvent.getReminderMinutes());
 
         verify(eventRepository, times(1)).findById(eventId);
         verify(eventRepository, times(1)).save(savedEvent);
+        verify(eventPublisher, times(1)).publishEvent(EventChange.updated(previous, savedEvent));
+        verify(bookingGuard, times(1)).check(updatedEventData, eventId);
     }
 
     @Test
@@ -146,6 +352,7 @@ class EventServiceTest {
 
         verify(eventRepository, times(1)).findById(eventId);
         verify(eventRepository, never()).save(any(Event.class));
+        verify(eventPublisher, never()).publishEvent(any(EventChange.class));
     }
 
     @Test
@@ -158,6 +365,7 @@ class EventServiceTest {
 
         verify(eventRepository, times(1)).findById(eventId);
         verify(eventRepository, times(1)).delete(savedEvent);
+        verify(eventPublisher, times(1)).publishEvent(EventChange.deleted(savedEvent));
     }
 
     @Test
@@ -214,6 +422,19 @@ class EventServiceTest {
         event.setEndTime(Instant.parse("2024-12-27T11:00:00Z"));
         event.setLocation("Updated Location");
         event.setColor("#ea4335");
+        event.setReminderMinutes(15);
         return event;
     }
-}
\ No newline at end of file
+
+    private static EventHistoryEntry historyEntry(Long id) {
+        return new EventHistoryEntry(id, 1L, "UPDATED", Instant.parse("2024-12-25T00:00:00Z"), null, "{}", "{}");
+    }
+
+    private static Map<String, Object> row(Long id, String title, String startTime) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("title", title);
+        row.put("startTime", Instant.parse(startTime));
+        return row;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.eventapi.snapshot;
+
+import com.example.eventapi.model.Event;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventColumnsTest {
+
+    @Test
+    void upsert_ShouldKeepRowsSortedById() {
+        EventColumns columns = new EventColumns();
+        columns.upsert(event(3L, "Room A"));
+        columns.upsert(event(1L, "Room B"));
+        columns.upsert(event(2L, null));
+
+        assertEquals(3, columns.size());
+        assertEquals(1L, columns.id(0));
+        assertEquals(2L, columns.id(1));
+        assertEquals(3L, columns.id(2));
+        assertEquals(EventColumns.NONE, columns.locationCode(1));
+    }
+
+    @Test
+    void upsert_ShouldReplaceExistingRow() {
+        EventColumns columns = new EventColumns();
+        columns.upsert(event(1L, "Room A"));
+        Event updated = event(1L, "Room B");
+        updated.setColor("#FF0000");
+        columns.upsert(updated);
+
+        assertEquals(1, columns.size());
+        assertEquals(0xFF0000, columns.color(0));
+        assertEquals(Map.of("Room B", 1), columns.locationFrequencies());
+    }
+
+    @Test
+    void upsert_ShouldGrowBeyondInitialCapacity() {
+        EventColumns columns = new EventColumns();
+        for (long id = 1; id <= 1000; id++) {
+            columns.upsert(event(id, "Room " + (id % 3)));
+        }
+
+        assertEquals(1000, columns.size());
+        assertTrue(columns.contains(1000L));
+        assertEquals(3, columns.locationFrequencies().size());
+    }
+
+    @Test
+    void remove_ShouldDropRow() {
+        EventColumns columns = new EventColumns();
+        columns.upsert(event(1L, "Room A"));
+        columns.upsert(event(2L, "Room A"));
+
+        assertTrue(columns.remove(1L));
+        assertFalse(columns.remove(1L));
+        assertEquals(1, columns.size());
+        assertFalse(columns.contains(1L));
+        assertEquals(Map.of("Room A", 1), columns.locationFrequencies());
+    }
+
+    @Test
+    void retainAll_ShouldDropRowsMissingFromLiveIds() {
+        EventColumns columns = new EventColumns();
+        for (long id = 1; id <= 5; id++) {
+            columns.upsert(event(id, null));
+        }
+
+        int removed = columns.retainAll(new long[]{2L, 4L, 6L}, 3);
+
+        assertEquals(3, removed);
+        assertEquals(2, columns.size());
+        assertTrue(columns.contains(2L));
+        assertTrue(columns.contains(4L));
+    }
+
+    @Test
+    void packColor_ShouldPackHexColors() {
+        assertEquals(0x1a73e8, EventColumns.packColor("#1a73e8"));
+        assertEquals(0x1a73e8, EventColumns.packColor("#1A73E8"));
+        assertEquals(EventColumns.NONE, EventColumns.packColor(null));
+        assertEquals(EventColumns.NONE, EventColumns.packColor("blue"));
+        assertEquals(EventColumns.NONE, EventColumns.packColor("#12345g"));
+    }
+
+    static Event event(Long id, String location) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Test Event");
+        event.setStartTime(Instant.parse("2024-12-25T10:00:00Z"));
+        event.setEndTime(Instant.parse("2024-12-25T12:00:00Z"));
+        event.setLocation(location);
+        event.setColor("#1a73e8");
+        return event;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.eventapi.snapshot;
+
+import com.example.eventapi.service.EventChange;
+import org.junit.jupiter.api.Test;
+
+import static com.example.eventapi.snapshot.EventColumnsTest.event;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventReadModelTest {
+
+    @Test
+    void onEventChange_ShouldApplyChangesOnceLoaded() {
+        EventReadModel readModel = new EventReadModel();
+        readModel.startLoading();
+        readModel.finishLoading(new EventColumns());
+
+        readModel.onEventChange(EventChange.created(event(1L, "Room A")));
+        readModel.onEventChange(EventChange.created(event(2L, "Room B")));
+        readModel.onEventChange(EventChange.deleted(event(1L, "Room A")));
+
+        assertTrue(readModel.isReady());
+        assertEquals(1, readModel.read(EventColumns::size));
+        assertTrue(readModel.read(columns -> columns.contains(2L)));
+    }
+
+    @Test
+    void onEventChange_ShouldReplayChangesMadeWhileLoading() {
+        EventReadModel readModel = new EventReadModel();
+        readModel.startLoading();
+        EventColumns loaded = new EventColumns();
+        loaded.upsert(event(1L, "Room A"));
+
+        readModel.onEventChange(EventChange.updated(event(1L, "Room A"), event(1L, "Room B")));
+        readModel.onEventChange(EventChange.created(event(2L, "Room C")));
+        assertFalse(readModel.isReady());
+        readModel.finishLoading(loaded);
+
+        assertEquals(2, readModel.read(EventColumns::size));
+        assertEquals(1, readModel.read(columns -> columns.locationFrequencies().get("Room B")));
+    }
+
+    @Test
+    void onEventChange_ShouldIgnoreChangesWhileNotLoaded() {
+        EventReadModel readModel = new EventReadModel();
+
+        readModel.onEventChange(EventChange.created(event(1L, "Room A")));
+
+        assertFalse(readModel.isReady());
+        assertEquals(0, readModel.read(EventColumns::size));
+    }
+
+    @Test
+    void abortLoading_ShouldDropBufferedChanges() {
+        EventReadModel readModel = new EventReadModel();
+        readModel.startLoading();
+        readModel.onEventChange(EventChange.created(event(1L, "Room A")));
+
+        readModel.abortLoading();
+        readModel.onEventChange(EventChange.created(event(2L, "Room B")));
+
+        assertFalse(readModel.isReady());
+        assertEquals(0, readModel.read(EventColumns::size));
+    }
+
+    @Test
+    void onEventChange_ShouldRemoveArchivedEvents() {
+        EventReadModel readModel = new EventReadModel();
+        readModel.startLoading();
+        EventColumns loaded = new EventColumns();
+        loaded.upsert(event(1L, "Room A"));
+        loaded.upsert(event(2L, "Room A"));
+        readModel.finishLoading(loaded);
+
+        readModel.onEventChange(EventChange.archived(event(1L, "Room A")));
+
+        assertFalse(readModel.read(columns -> columns.contains(1L)));
+        assertEquals(1, readModel.read(columns -> columns.locationFrequencies().get("Room A")));
+    }
+}
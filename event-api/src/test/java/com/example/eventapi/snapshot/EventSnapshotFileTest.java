@@ -0,0 +1,87 @@
+package com.example.eventapi.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+
+import static com.example.eventapi.snapshot.EventColumnsTest.event;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSnapshotFileTest {
+
+    private static final Instant AS_OF = Instant.parse("2026-10-01T00:00:00.123Z");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void write_ShouldRoundTripColumns() throws IOException {
+        EventColumns columns = new EventColumns();
+        columns.upsert(event(1L, "Room A"));
+        columns.upsert(event(2L, "Room B"));
+        columns.upsert(event(3L, null));
+        columns.upsert(event(4L, "Room A"));
+        Path path = directory.resolve("events.snapshot");
+
+        EventSnapshotFile.write(path, columns, AS_OF);
+        EventSnapshotFile.Snapshot snapshot = EventSnapshotFile.read(path);
+
+        assertEquals(AS_OF, snapshot.asOf());
+        EventColumns read = snapshot.columns();
+        assertEquals(4, read.size());
+        for (int row = 0; row < columns.size(); row++) {
+            assertEquals(columns.id(row), read.id(row));
+            assertEquals(columns.startMillis(row), read.startMillis(row));
+            assertEquals(columns.endMillis(row), read.endMillis(row));
+            assertEquals(columns.color(row), read.color(row));
+        }
+        assertEquals(Map.of("Room A", 2, "Room B", 1), read.locationFrequencies());
+    }
+
+    @Test
+    void write_ShouldDropUnusedLocationsFromDictionary() throws IOException {
+        EventColumns columns = new EventColumns();
+        columns.upsert(event(1L, "Old Room"));
+        columns.upsert(event(1L, "New Room"));
+        Path path = directory.resolve("events.snapshot");
+
+        EventSnapshotFile.write(path, columns, AS_OF);
+
+        assertEquals(1, EventSnapshotFile.read(path).columns().dictionary().size());
+    }
+
+    @Test
+    void read_ShouldRejectCorruptFile() throws IOException {
+        EventColumns columns = new EventColumns();
+        columns.upsert(event(1L, "Room A"));
+        Path path = directory.resolve("events.snapshot");
+        EventSnapshotFile.write(path, columns, AS_OF);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), 30);
+        }
+
+        assertThrows(IOException.class, () -> EventSnapshotFile.read(path));
+    }
+
+    @Test
+    void write_ShouldNotLeaveTemporaryFiles() throws IOException {
+        EventColumns columns = new EventColumns();
+        Path path = directory.resolve("events.snapshot");
+
+        EventSnapshotFile.write(path, columns, AS_OF);
+
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+        assertEquals(0, EventSnapshotFile.read(path).columns().size());
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.eventapi.warmup;
+
+import com.example.eventapi.mapper.EventMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.client.RestClient;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class WarmupRunnerTest {
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private RestClient.Builder restClientBuilder;
+
+    private WarmupProperties properties;
+
+    private WarmupRunner warmupRunner;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmupProperties();
+        properties.setIterations(20);
+        properties.setSampleSize(5);
+        warmupRunner = new WarmupRunner(properties, applicationContext, dataSource, new EventMapper(),
+                new ObjectMapper(), restClientBuilder);
+    }
+
+    @Test
+    void run_ShouldSkipWhenDisabled() {
+        properties.setEnabled(false);
+
+        warmupRunner.run(new DefaultApplicationArguments());
+
+        assertEquals(WarmupReport.Status.SKIPPED, warmupRunner.getReport().getStatus());
+        verifyNoInteractions(dataSource, restClientBuilder);
+    }
+
+    @Test
+    void run_ShouldSkipWithoutEmbeddedWebServer() {
+        warmupRunner.run(new DefaultApplicationArguments());
+
+        assertEquals(WarmupReport.Status.SKIPPED, warmupRunner.getReport().getStatus());
+        verifyNoInteractions(dataSource, restClientBuilder);
+    }
+
+    @Test
+    void exercise_ShouldRunConfiguredRoundsAndReportLatency() {
+        AtomicInteger rounds = new AtomicInteger();
+
+        WarmupReport report = warmupRunner.exercise(rounds::incrementAndGet, 10, System.nanoTime());
+
+        assertEquals(20, rounds.get());
+        assertEquals(WarmupReport.Status.COMPLETED, report.getStatus());
+        assertEquals(20, report.getRounds());
+        assertEquals(10, report.getPooledConnections());
+        assertTrue(report.getMedianBeforeMicros() >= 0);
+        assertTrue(report.getMedianAfterMicros() >= 0);
+    }
+
+    @Test
+    void exercise_ShouldStopAtMaxDuration() {
+        properties.setMaxDuration(Duration.ofMillis(50));
+        AtomicInteger rounds = new AtomicInteger();
+
+        WarmupReport report = warmupRunner.exercise(() -> {
+            rounds.incrementAndGet();
+            sleep(20);
+        }, 0, System.nanoTime());
+
+        assertTrue(rounds.get() < 20);
+        assertEquals(rounds.get(), report.getRounds());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}